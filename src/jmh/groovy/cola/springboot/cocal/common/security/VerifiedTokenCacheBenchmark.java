@@ -0,0 +1,109 @@
+package cola.springboot.cocal.common.security;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthFilter 의 토큰 확인 비용 비교 (./gradlew jmh)
+ * - verifyEveryRequest: 캐시 전 방식 (매 요청 HMAC 검증 + claims 파싱)
+ * - cachedHit: VerifiedTokenCache 적중 (SHA-256 digest + LRU 조회)
+ * - 사용자 수만큼 토큰을 미리 만들어 두고 요청마다 무작위로 고름 (캐시는 전부 들어갈 크기)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VerifiedTokenCacheBenchmark {
+
+    @Param({"100", "5000"})
+    public int activeTokens;
+
+    private JwtTokenProvider jwt;
+    private VerifiedTokenCache cache;
+    private String[] tokens;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtTokenProperties props = new JwtTokenProperties();
+        props.setIssuer("cocal");
+        props.setAudience("cocal-web");
+        props.setAccessTtlMinutes(20);
+        props.setSecretBase64(Base64.getEncoder().encodeToString(new byte[32]));
+        jwt = new JwtTokenProvider(props);
+
+        cache = new VerifiedTokenCache(10_000);
+        tokens = new String[activeTokens];
+        for (int i = 0; i < activeTokens; i++) {
+            tokens[i] = jwt.createAccessToken((long) i, "user" + i + "@cocal.test", List.of("USER"));
+            String token = tokens[i];
+            cache.get(token, () -> verify(token));
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public VerifiedTokenCache.Verified verifyEveryRequest() {
+        return verify(nextToken());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public VerifiedTokenCache.Verified cachedHit() {
+        String token = nextToken();
+        return cache.get(token, () -> verify(token));
+    }
+
+    // 락 하나를 여러 요청 스레드가 같이 쓸 때
+    @Benchmark
+    @Threads(8)
+    public VerifiedTokenCache.Verified verifyEveryRequest8Threads() {
+        return verify(nextToken());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public VerifiedTokenCache.Verified cachedHit8Threads() {
+        String token = nextToken();
+        return cache.get(token, () -> verify(token));
+    }
+
+    private String nextToken() {
+        return tokens[ThreadLocalRandom.current().nextInt(tokens.length)];
+    }
+
+    // JwtAuthFilter.verify 와 같은 작업
+    private VerifiedTokenCache.Verified verify(String token) {
+        Claims c = jwt.getClaims(token);
+
+        @SuppressWarnings("unchecked")
+        List<String> roles = (List<String>) c.get("roles");
+        var authorities = roles == null
+                ? List.<SimpleGrantedAuthority>of()
+                : roles.stream()
+                .map(r -> new SimpleGrantedAuthority("ROLE_" + r))
+                .toList();
+
+        long expiresAt = c.getExpiration() != null ? c.getExpiration().getTime() : 0;
+        return new VerifiedTokenCache.Verified(jwt.getUserId(c), authorities, c, expiresAt);
+    }
+}
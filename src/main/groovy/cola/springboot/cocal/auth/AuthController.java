@@ -84,7 +84,8 @@ public class AuthController {
     // accessToken 재발급
     @PostMapping("/reissue")
     public ResponseEntity<ApiResponse<TokenResponse>> reissue(
-            @CookieValue(value = "refreshToken", required = false) String refreshToken, HttpServletRequest request) {
+            @CookieValue(value = "refreshToken", required = false) String refreshToken, HttpServletRequest request,
+            HttpServletResponse res) {
 
         if (refreshToken == null) {
             throw new BusinessException(
@@ -97,6 +98,10 @@ public class AuthController {
         try {
             // AccessToken 재발급
             AuthService.TokenPair tokens = authService.reissueAccessToken(refreshToken);
+            // 교체된 RefreshToken 쿠키 저장
+            if (tokens.refreshToken() != null) {
+                addRefreshCookie(res, tokens.refreshToken());
+            }
 
             // TTL 계산
             long accessTtl = jwtProvider.getAccessTokenTtlSeconds();
@@ -9,6 +9,7 @@ import cola.springboot.cocal.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.util.Pair;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -30,6 +31,7 @@ public class AuthService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtTokenProvider jwt;
     private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenCache refreshTokenCache;
     private static final Logger log = LoggerFactory.getLogger(AuthService.class);
 
     private final SecureRandom random = new SecureRandom();
@@ -37,6 +39,11 @@ public class AuthService {
     // 운영에서 프로퍼티로 빼고 싶다면 app.auth.refresh-ttl-days 등으로 분리
     private final long refreshTtlDays = 30;
 
+    // 동시 재발급으로 교체된 직전 토큰이 다시 들어와도 허용하는 시간
+    @Value("${app.auth.refresh-rotation.grace-seconds:10}")
+    private long rotationGraceSeconds;
+
+    // refreshToken 이 null 이면 클라이언트 쿠키를 바꾸지 않음
     public record TokenPair(String accessToken, String refreshToken) {}
 
     // 로그인: 비밀번호 검증 → access 발급 + refresh 저장(해시)
@@ -88,22 +95,29 @@ public class AuthService {
         refreshTokenService.revokeRefreshToken(userId,deviceInfo);
     }
 
-    // 토큰 재발급
-    @Transactional
+    // 토큰 재발급: 사용한 refresh 토큰은 새 토큰으로 교체 (rotation)
+    // - 교체된 직전 토큰이 grace 안에 다시 오면 동시 요청으로 보고 access 만 발급 (refreshToken 은 null)
+    // - grace 가 지나서 오면 탈취된 토큰 재사용으로 보고 해당 기기 세션 폐기
+    // 폐기 후 예외를 던져도 폐기는 남아야 하므로 트랜잭션으로 묶지 않음 (UPDATE 는 각각 커밋)
     public TokenPair reissueAccessToken(String refreshTokenForClient) {
         // 1. RefreshToken 해시 생성
         byte[] refreshHash = jwt.hashRefreshToken(refreshTokenForClient);
 
-        // 2. DB에서 활성화된 refreshToken 조회
-        RefreshToken tokenEntity = refreshTokenRepository.findByTokenHashAndRevokedAtIsNull(refreshHash)
-                .orElseThrow(() -> new BusinessException(
-                        HttpStatus.UNAUTHORIZED,
-                        "INVALID_REFRESH_TOKEN",
-                        "유효하지 않은 RefreshToken입니다."
-                ));
+        // 2. 활성 refreshToken 조회 (최근 재발급된 토큰이면 캐시에서)
+        RefreshTokenCache.Entry entry = refreshTokenCache.get(refreshHash);
+        if (entry == null) {
+            RefreshToken tokenEntity = refreshTokenRepository.findActiveWithUser(refreshHash).orElse(null);
+            if (tokenEntity == null) {
+                return reissueFromRotated(refreshHash);
+            }
+            User user = tokenEntity.getUser();
+            entry = new RefreshTokenCache.Entry(tokenEntity.getId(), user.getId(), user.getEmail(),
+                    user.getRole().name(), tokenEntity.getExpiresAt());
+        }
 
         // 3. 만료 여부 확인
-        if (tokenEntity.getExpiresAt().isBefore(LocalDateTime.now())) {
+        if (entry.expiresAt().isBefore(LocalDateTime.now())) {
+            refreshTokenCache.evict(refreshHash);
             throw new BusinessException(
                     HttpStatus.UNAUTHORIZED,
                     "EXPIRED_REFRESH_TOKEN",
@@ -111,12 +125,46 @@ public class AuthService {
             );
         }
 
-        // 4. 새 AccessToken 발급
-        User user = tokenEntity.getUser();
-        Collection<String> roles = List.of(user.getRole().name());
-        String newAccessToken = jwt.createAccessToken(user.getId(), user.getEmail(), roles);
+        // 4. 새 RefreshToken 으로 교체 (폐기/이미 교체된 토큰이면 0건)
+        Pair<String, byte[]> next = jwt.createRefreshToken();
+        refreshTokenCache.evict(refreshHash);
+        if (refreshTokenRepository.rotate(entry.tokenId(), refreshHash, next.getSecond()) == 0) {
+            return reissueFromRotated(refreshHash);
+        }
+        refreshTokenCache.put(next.getSecond(), new RefreshTokenCache.Entry(entry.tokenId(), entry.userId(),
+                entry.email(), entry.role(), entry.expiresAt()));
+
+        // 5. 새 AccessToken 발급
+        String newAccessToken = jwt.createAccessToken(entry.userId(), entry.email(), List.of(entry.role()));
+        return new TokenPair(newAccessToken, next.getFirst());
+    }
+
+    // 활성 토큰이 아닐 때: 직전 토큰이면 grace 안에서는 access 만 재발급, 지났으면 재사용으로 보고 세션 폐기
+    private TokenPair reissueFromRotated(byte[] refreshHash) {
+        RefreshToken rotated = refreshTokenRepository.findRotatedWithUser(refreshHash)
+                .orElseThrow(() -> new BusinessException(
+                        HttpStatus.UNAUTHORIZED,
+                        "INVALID_REFRESH_TOKEN",
+                        "유효하지 않은 RefreshToken입니다."
+                ));
+
+        User user = rotated.getUser();
+        LocalDateTime now = LocalDateTime.now();
+        boolean inGrace = rotated.getRotatedAt() != null
+                && rotated.getRotatedAt().plusSeconds(rotationGraceSeconds).isAfter(now);
+        if (inGrace && rotated.isActive(now)) {
+            // 새 refresh 토큰은 먼저 성공한 요청의 응답 쿠키로 전달됨
+            String newAccessToken = jwt.createAccessToken(user.getId(), user.getEmail(), List.of(user.getRole().name()));
+            return new TokenPair(newAccessToken, null);
+        }
 
-        // 5. 기존 RefreshToken 그대로 반환
-        return new TokenPair(newAccessToken, refreshTokenForClient);
+        refreshTokenRepository.revokeById(rotated.getId());
+        refreshTokenCache.evictUser(user.getId());
+        log.warn("RefreshToken 재사용 감지: userId={}, tokenId={}", user.getId(), rotated.getId());
+        throw new BusinessException(
+                HttpStatus.UNAUTHORIZED,
+                "REFRESH_TOKEN_REUSED",
+                "이미 사용된 RefreshToken입니다. 다시 로그인해주세요."
+        );
     }
 }
\ No newline at end of file
@@ -49,6 +49,14 @@ public class RefreshToken {
     @Column(name = "revoked_at")
     private LocalDateTime revokedAt;
 
+    // 직전 토큰 해시 (교체 후 다시 쓰이면 재사용으로 판단)
+    @Column(name = "previous_token_hash")
+    private byte[] previousTokenHash;
+
+    // 마지막 교체 시각
+    @Column(name = "rotated_at")
+    private LocalDateTime rotatedAt;
+
 
     // 사용중인 상태인지 확인하는 메서드
     public boolean isActive(LocalDateTime now) {
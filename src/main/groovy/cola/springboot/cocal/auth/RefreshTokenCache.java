@@ -0,0 +1,78 @@
+package cola.springboot.cocal.auth;
+
+import cola.springboot.cocal.common.util.LruTtlCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.function.LongSupplier;
+
+/**
+ * 활성 refresh 토큰 해시 → 토큰/사용자 정보 캐시 (재발급 시 DB 조회 생략용)
+ * - 재발급하면서 새 토큰 해시로 넣어두고, 클라이언트가 다음 재발급(액세스 토큰 만료 무렵)에 그 해시로 조회
+ *   → TTL 은 액세스 토큰 수명(기본 20분)보다 길어야 적중함 (기본 30분, refresh 토큰 만료 시각을 넘지는 않음)
+ * - 재발급은 항상 DB 에서 토큰을 교체(조건부 UPDATE)하므로, 캐시가 오래돼도 폐기된 토큰으로는 재발급되지 않음
+ * - 로그아웃/재사용 감지 시 해당 사용자 항목 제거
+ * - 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거(LRU)
+ * - 적중/미스는 /actuator/metrics 의 cache.* (cache=refresh-tokens) 로 확인
+ */
+@Component
+public class RefreshTokenCache implements MeterBinder {
+
+    public record Entry(Long tokenId, Long userId, String email, String role, LocalDateTime expiresAt) {}
+
+    // ByteBuffer 는 내용 기준 equals/hashCode 라 그대로 맵 키로 사용
+    private final LruTtlCache<ByteBuffer, Entry> cache;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    @Autowired
+    public RefreshTokenCache(@Value("${app.auth.refresh-cache.max-size:10000}") int maxSize,
+                             @Value("${app.auth.refresh-cache.ttl-seconds:1800}") long ttlSeconds) {
+        this(maxSize, ttlSeconds, System::currentTimeMillis);
+    }
+
+    RefreshTokenCache(int maxSize, long ttlSeconds, LongSupplier clock) {
+        this.cache = new LruTtlCache<>(maxSize, ttlSeconds * 1000L, clock);
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.clock = clock;
+    }
+
+    // TTL 안이면 반환, 없거나 지났으면 null
+    public Entry get(byte[] tokenHash) {
+        return cache.getIfPresent(ByteBuffer.wrap(tokenHash));
+    }
+
+    // TTL 과 refresh 토큰 만료 시각 중 먼저 오는 때까지
+    public void put(byte[] tokenHash, Entry entry) {
+        long expiresAtMillis = clock.getAsLong() + ttlMillis;
+        if (entry.expiresAt() != null) {
+            long tokenExpiresAt = entry.expiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            expiresAtMillis = Math.min(expiresAtMillis, tokenExpiresAt);
+        }
+        cache.put(ByteBuffer.wrap(tokenHash), entry, expiresAtMillis);
+    }
+
+    public void evict(byte[] tokenHash) {
+        cache.remove(ByteBuffer.wrap(tokenHash));
+    }
+
+    // 로그아웃 시 (자주 일어나지 않으므로 전체 순회)
+    public void evictUser(Long userId) {
+        cache.removeIf(e -> e.userId().equals(userId));
+    }
+
+    public LruTtlCache.Stats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        cache.bindTo(registry, "refresh-tokens");
+    }
+}
@@ -0,0 +1,95 @@
+package cola.springboot.cocal.auth;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 만료/폐기된 refresh 토큰 정리
+ * - 로그아웃(폐기) 시 expires_at 도 그 시각으로 바뀌므로 expires_at 이 보관기간보다 오래된 행만 삭제
+ * - 작은 묶음씩 각각 커밋해서 로그인/재발급과 잠금 경합을 줄이고, 한 번 실행에 지울 최대 묶음 수를 제한
+ * - 실행/삭제/실패 수와 마지막 실행 결과는 /actuator/metrics 의 auth.refresh.purge.* 로 확인
+ */
+@Service
+public class RefreshTokenPurgeService implements MeterBinder {
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenPurgeService.class);
+
+    public record Stats(long runs, long deleted, long lastRunDeleted, long lastRunMillis, long failures) {}
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long retentionDays;
+    private final int batchSize;
+    private final int maxBatches;
+
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong deleted = new AtomicLong();
+    private final AtomicLong lastRunDeleted = new AtomicLong();
+    private final AtomicLong lastRunMillis = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    public RefreshTokenPurgeService(RefreshTokenRepository refreshTokenRepository,
+                                    @Value("${app.auth.refresh-purge.retention-days:7}") long retentionDays,
+                                    @Value("${app.auth.refresh-purge.batch-size:500}") int batchSize,
+                                    @Value("${app.auth.refresh-purge.max-batches:100}") int maxBatches) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    // 10분마다
+    @Scheduled(fixedDelayString = "${app.auth.refresh-purge.interval-millis:600000}")
+    public void purge() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        long total = 0;
+        try {
+            for (int i = 0; i < maxBatches; i++) {
+                int count = refreshTokenRepository.deleteExpiredBefore(cutoff, batchSize);
+                total += count;
+                if (count < batchSize) break;
+            }
+        } catch (Exception e) {
+            failures.incrementAndGet();
+            log.warn("[Auth] refresh token purge failed after {} rows", total, e);
+        }
+
+        runs.incrementAndGet();
+        deleted.addAndGet(total);
+        lastRunDeleted.set(total);
+        lastRunMillis.set(System.currentTimeMillis() - startedAt);
+        // 매 실행 남김 (지운 게 없으면 debug)
+        if (total > 0) {
+            log.info("[Auth] purged {} refresh tokens expired before {} ({} ms, total {} in {} runs)",
+                    total, cutoff, lastRunMillis.get(), deleted.get(), runs.get());
+        } else {
+            log.debug("[Auth] no refresh tokens to purge before {} ({} ms, total {} in {} runs)",
+                    cutoff, lastRunMillis.get(), deleted.get(), runs.get());
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(runs.get(), deleted.get(), lastRunDeleted.get(), lastRunMillis.get(), failures.get());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.refresh.purge.runs", runs, AtomicLong::get).register(registry);
+        FunctionCounter.builder("auth.refresh.purge.deleted", deleted, AtomicLong::get).register(registry);
+        FunctionCounter.builder("auth.refresh.purge.failures", failures, AtomicLong::get).register(registry);
+        Gauge.builder("auth.refresh.purge.last.deleted", lastRunDeleted, AtomicLong::get).register(registry);
+        TimeGauge.builder("auth.refresh.purge.last.duration", lastRunMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .register(registry);
+    }
+}
@@ -12,6 +12,7 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     void deleteByUserId(Long userId);
 
     // RefreshToken 레코드 저장을 위한 insert or update
+    // 같은 기기 재로그인이면 만료 시각도 새로 (안 그러면 처음 로그인 기준으로 만료되고 정리 작업에 지워짐)
     @Modifying
     @Transactional
     @Query(value = """
@@ -20,6 +21,9 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
         ON CONFLICT (user_id, device_info) WHERE revoked_at IS NULL
         DO UPDATE SET
             token_hash = EXCLUDED.token_hash,
+            expires_at = EXCLUDED.expires_at,
+            previous_token_hash = NULL,
+            rotated_at = NULL,
             updated_at = now()
     """, nativeQuery = true)
     int upsert(@Param("userId") Long userId,
@@ -57,6 +61,73 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     """, nativeQuery = true)
     int logoutAllDevices(@Param("userId") Long userId);
 
+    // 만료/폐기 후 보관기간이 지난 토큰 한 묶음 삭제 (idx_refresh_expires_at 사용)
+    // 여러 서버가 동시에 돌아도 서로 잠근 행은 건너뜀
+    @Modifying
+    @Transactional
+    @Query(value = """
+    DELETE FROM refresh_tokens
+    WHERE id IN (
+        SELECT id FROM refresh_tokens
+        WHERE expires_at < :cutoff
+        LIMIT :batchSize
+        FOR UPDATE SKIP LOCKED
+    )
+    """, nativeQuery = true)
+    int deleteExpiredBefore(@Param("cutoff") LocalDateTime cutoff,
+                            @Param("batchSize") int batchSize);
+
     // 활성(refreshToken 만료X, revoked_at IS NULL) refreshToken 조회
     Optional<RefreshToken> findByTokenHashAndRevokedAtIsNull(byte[] tokenHash);
+
+    // 재발급용: 사용자까지 한 번에 조회
+    @Query("""
+        select t
+        from RefreshToken t
+        join fetch t.user
+        where t.tokenHash = :tokenHash
+          and t.revokedAt is null
+    """)
+    Optional<RefreshToken> findActiveWithUser(@Param("tokenHash") byte[] tokenHash);
+
+    // 직전 토큰으로 들어온 요청 (동시 재발급 또는 재사용)
+    @Query("""
+        select t
+        from RefreshToken t
+        join fetch t.user
+        where t.previousTokenHash = :tokenHash
+          and t.revokedAt is null
+    """)
+    Optional<RefreshToken> findRotatedWithUser(@Param("tokenHash") byte[] tokenHash);
+
+    // 토큰 교체: 현재 해시가 그대로이고 활성일 때만 (동시 요청 중 하나만 성공)
+    @Modifying
+    @Transactional
+    @Query(value = """
+    UPDATE refresh_tokens
+    SET previous_token_hash = token_hash,
+        token_hash = :newHash,
+        rotated_at = now(),
+        updated_at = now()
+    WHERE id = :id
+      AND token_hash = :oldHash
+      AND revoked_at IS NULL
+      AND expires_at > now()
+    """, nativeQuery = true)
+    int rotate(@Param("id") Long id,
+               @Param("oldHash") byte[] oldHash,
+               @Param("newHash") byte[] newHash);
+
+    // 재사용 감지 시 해당 기기 세션 폐기
+    @Modifying
+    @Transactional
+    @Query(value = """
+    UPDATE refresh_tokens
+    SET revoked_at = now(),
+        expires_at = now(),
+        updated_at = now()
+    WHERE id = :id
+      AND revoked_at IS NULL
+    """, nativeQuery = true)
+    int revokeById(@Param("id") Long id);
 }
@@ -0,0 +1,27 @@
+package cola.springboot.cocal.auth;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "revoked_tokens")
+public class RevokedToken {
+
+    // 액세스 토큰 jti
+    @Id
+    @Column(name = "jti", length = 64)
+    private String jti;
+
+    // 토큰 만료 시각 (이후에는 블랙리스트에 둘 필요 없음)
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+}
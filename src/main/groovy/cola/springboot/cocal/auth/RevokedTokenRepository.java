@@ -0,0 +1,39 @@
+package cola.springboot.cocal.auth;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    // 같은 토큰을 여러 번 로그아웃해도 한 행만
+    @Modifying
+    @Transactional
+    @Query(value = """
+        INSERT INTO revoked_tokens (jti, expires_at, revoked_at)
+        VALUES (:jti, :expiresAt, now())
+        ON CONFLICT (jti) DO NOTHING
+    """, nativeQuery = true)
+    int insertIgnore(@Param("jti") String jti, @Param("expiresAt") LocalDateTime expiresAt);
+
+    // since 이후 추가된 것 중 아직 만료되지 않은 항목
+    @Query("""
+        select t
+        from RevokedToken t
+        where t.revokedAt > :since
+          and t.expiresAt > :now
+    """)
+    List<RevokedToken> findRevokedSince(@Param("since") LocalDateTime since,
+                                        @Param("now") LocalDateTime now);
+
+    // 만료된 항목 정리
+    @Modifying
+    @Transactional
+    @Query("delete from RevokedToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
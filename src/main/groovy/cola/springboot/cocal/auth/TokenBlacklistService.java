@@ -1,19 +1,143 @@
 package cola.springboot.cocal.auth;
 
+import cola.springboot.cocal.common.security.JwtTokenProvider;
+import cola.springboot.cocal.common.security.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
+/**
+ * 로그아웃된 액세스 토큰 블랙리스트
+ * - 토큰 원문 대신 jti 와 만료 시각만 보관
+ * - 만료 시각(분) 단위 버킷으로 묶어두고, 지난 버킷은 통째로 정리 (만료된 토큰은 어차피 검증에서 걸러짐)
+ * - revoked_tokens 테이블에도 저장하고, 다른 서버에서 추가된 것은 주기적으로 가져옴
+ */
 @Service
 public class TokenBlacklistService {
-    private final Set<String> blacklist = ConcurrentHashMap.newKeySet();
+    private static final Logger log = LoggerFactory.getLogger(TokenBlacklistService.class);
+    private static final long BUCKET_MILLIS = 60_000;
 
+    // jti → 만료 시각 (epoch millis)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    // 만료 버킷 → jti 목록
+    private final NavigableMap<Long, Set<String>> buckets = new ConcurrentSkipListMap<>();
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final JwtTokenProvider jwt;
+    private final VerifiedTokenCache verifiedTokenCache;
+    // 서버 간 시계/커밋 지연으로 빠지는 항목이 없도록 겹쳐서 조회
+    private final long syncOverlapSeconds;
+
+    // 지금까지 가져온 항목의 revoked_at 최댓값 (DB 시계 기준, null 이면 아직 없음 → 전체 로드)
+    // 스케줄러 스레드에서 쓰고 다른 스레드에서 읽을 수 있으므로 volatile
+    private volatile LocalDateTime syncedAt;
+
+    public TokenBlacklistService(RevokedTokenRepository revokedTokenRepository,
+                                 JwtTokenProvider jwt,
+                                 VerifiedTokenCache verifiedTokenCache,
+                                 @Value("${app.auth.revocation.sync-overlap-seconds:5}") long syncOverlapSeconds) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.jwt = jwt;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.syncOverlapSeconds = syncOverlapSeconds;
+    }
+
+    // 액세스 토큰 무효화 (이미 만료/위조된 토큰이면 할 일 없음)
     public void addToBlacklist(String token) {
-        blacklist.add(token);
+        Claims claims;
+        try {
+            claims = jwt.getClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return;
+        }
+        if (claims.getId() == null || claims.getExpiration() == null) return;
+
+        long expiresAt = claims.getExpiration().getTime();
+        add(claims.getId(), expiresAt);
+        revokedTokenRepository.insertIgnore(claims.getId(), toLocal(expiresAt));
+        verifiedTokenCache.evict(token);
+    }
+
+    // 인증 필터에서 매 요청 호출 (이미 검증된 claims 의 jti)
+    public boolean isBlacklisted(String jti) {
+        return jti != null && revoked.containsKey(jti);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    // 다른 서버에서 추가된 항목 가져오기
+    // revoked_at 은 DB 의 now() 로 찍히므로, 다음 조회 기준도 앱 서버 시계가 아니라 가져온 행의 revoked_at 최댓값으로 잡음
+    // (앱 서버 시계가 DB 보다 빠르면 그 사이에 들어온 항목을 건너뛰게 됨)
+    @Scheduled(fixedDelayString = "${app.auth.revocation.sync-millis:5000}")
+    public void sync() {
+        LocalDateTime watermark = syncedAt;
+        LocalDateTime since = watermark != null
+                ? watermark.minusSeconds(syncOverlapSeconds)
+                : LocalDateTime.of(1970, 1, 1, 0, 0);
+        try {
+            for (RevokedToken t : revokedTokenRepository.findRevokedSince(since, LocalDateTime.now())) {
+                add(t.getJti(), toMillis(t.getExpiresAt()));
+                if (watermark == null || t.getRevokedAt().isAfter(watermark)) {
+                    watermark = t.getRevokedAt();
+                }
+            }
+            syncedAt = watermark;
+        } catch (Exception e) {
+            log.warn("Token blacklist sync failed", e);
+        }
+    }
+
+    // 만료된 버킷 정리 (메모리 + 테이블)
+    @Scheduled(fixedRate = 60000)
+    public void prune() {
+        long now = System.currentTimeMillis();
+        int removed = 0;
+        NavigableMap<Long, Set<String>> expired = buckets.headMap(now / BUCKET_MILLIS, false);
+        for (Map.Entry<Long, Set<String>> bucket : expired.entrySet()) {
+            for (String jti : bucket.getValue()) {
+                if (revoked.remove(jti) != null) removed++;
+            }
+            buckets.remove(bucket.getKey(), bucket.getValue());
+        }
+        if (removed > 0) {
+            log.debug("Token blacklist pruned: -{} (remaining {})", removed, revoked.size());
+        }
+
+        try {
+            revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        } catch (Exception e) {
+            log.warn("Revoked token cleanup failed", e);
+        }
+    }
+
+    private void add(String jti, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) return;
+        if (revoked.putIfAbsent(jti, expiresAtMillis) == null) {
+            // 버킷 끝 시각이 만료 시각 이후가 되도록 올림
+            buckets.computeIfAbsent(expiresAtMillis / BUCKET_MILLIS + 1, k -> ConcurrentHashMap.newKeySet()).add(jti);
+        }
+    }
+
+    private static LocalDateTime toLocal(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
     }
 
-    public boolean isBlacklisted(String token) {
-        return blacklist.contains(token);
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
 }
@@ -0,0 +1,154 @@
+package cola.springboot.cocal.cal;
+
+import cola.springboot.cocal.common.util.TransactionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 월별 active-days 비트맵 관리
+ * - 프로젝트 공용(이벤트 TODO) 비트맵 + 사용자별 개인 TODO 비트맵을 따로 저장하고 조회 시 OR
+ * - 이벤트/TODO 변경 시 커밋 후 영향받는 월만 재계산, 조회 시 없거나 오래된 월은 즉석에서 계산
+ */
+@Service
+public class ActiveDaysService {
+    private static final Logger log = LoggerFactory.getLogger(ActiveDaysService.class);
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final ZoneId UTC = ZoneId.of("UTC");
+    private static final long SHARED = 0L;
+
+    private final CalendarRepository calendarRepository;
+    private final TransactionTemplate refreshTx;
+    private final int maxAgeMinutes;
+
+    public ActiveDaysService(CalendarRepository calendarRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.cal.active-days.max-age-minutes:60}") int maxAgeMinutes) {
+        this.calendarRepository = calendarRepository;
+        this.maxAgeMinutes = maxAgeMinutes;
+        // 커밋 후 콜백에서도 쓰이므로 항상 새 트랜잭션
+        this.refreshTx = new TransactionTemplate(transactionManager);
+        this.refreshTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 해당 월에 이벤트 TODO 또는 본인 개인 TODO가 있는 날짜 (KST 기준)
+    public List<Integer> getActiveDays(Long projectId, Long userId, YearMonth month) {
+        return getActiveDays(projectId, userId, month, month).get(month);
+    }
+
+    // [from, to] 월 구간을 한 번에 조회 (월 순서대로)
+    public Map<YearMonth, List<Integer>> getActiveDays(Long projectId, Long userId, YearMonth from, YearMonth to) {
+        // 없거나 오래된 월만 한 문장으로 재계산 (신선한 월은 쿼리 안에서 제외되므로 대부분 0건)
+        refreshMissing(projectId, userId, from, to);
+
+        Map<YearMonth, Integer> shared = new HashMap<>();
+        Map<YearMonth, Integer> mine = new HashMap<>();
+        readDayBits(projectId, userId, from, to, shared, mine);
+
+        Map<YearMonth, List<Integer>> result = new LinkedHashMap<>();
+        for (YearMonth m = from; !m.isAfter(to); m = m.plusMonths(1)) {
+            result.put(m, toDays(shared.getOrDefault(m, 0) | mine.getOrDefault(m, 0)));
+        }
+        return result;
+    }
+
+    private void readDayBits(Long projectId, Long userId, YearMonth from, YearMonth to,
+                             Map<YearMonth, Integer> shared, Map<YearMonth, Integer> mine) {
+        for (CalendarRepository.DayBitsRow row : calendarRepository.findDayBits(
+                projectId, userId, from.atDay(1), to.atDay(1), maxAgeMinutes)) {
+            YearMonth month = YearMonth.parse(row.getMonth());
+            if (row.getUserId() == SHARED) shared.put(month, row.getDayBits());
+            else mine.put(month, row.getDayBits());
+        }
+    }
+
+    // 이벤트 TODO 변경 시: 이벤트 기간이 걸친 월의 공용 비트맵을 커밋 후 재계산
+    public void refreshSharedAfterCommit(Long projectId, LocalDateTime startAt, LocalDateTime endAt) {
+        if (projectId == null || startAt == null || endAt == null) return;
+        Set<YearMonth> months = monthsBetween(startAt, endAt);
+        TransactionUtils.afterCommit(() -> months.forEach(m -> refreshShared(projectId, m)));
+    }
+
+    // 개인 TODO 변경 시: 해당 날짜 월의 사용자 비트맵을 커밋 후 재계산
+    public void refreshPrivateAfterCommit(Long projectId, Long userId, LocalDateTime date) {
+        if (projectId == null || userId == null || date == null) return;
+        YearMonth month = toKstMonth(date);
+        TransactionUtils.afterCommit(() -> refreshPrivate(projectId, userId, month));
+    }
+
+    private void refreshMissing(Long projectId, Long userId, YearMonth from, YearMonth to) {
+        LocalDate rangeEnd = to.plusMonths(1).atDay(1);
+        try {
+            refreshTx.executeWithoutResult(status -> calendarRepository.refreshMissingDayBits(
+                    projectId, userId, from.atDay(1), to.atDay(1), rangeEnd,
+                    toUtc(from.atDay(1)), toUtc(rangeEnd), maxAgeMinutes));
+        } catch (Exception e) {
+            // 실패한 월은 빈 값으로 응답하고 다음 조회에서 다시 계산
+            log.warn("[ActiveDays] range refresh failed projectId={}, userId={}, from={}, to={}", projectId, userId, from, to, e);
+        }
+    }
+
+    private void refreshShared(Long projectId, YearMonth month) {
+        try {
+            refreshTx.executeWithoutResult(status -> calendarRepository.refreshSharedDayBits(
+                    projectId, month.atDay(1), month.plusMonths(1).atDay(1),
+                    toUtc(month.atDay(1)), toUtc(month.plusMonths(1).atDay(1))));
+        } catch (Exception e) {
+            // 실패해도 max-age가 지나면 조회 시 다시 계산됨
+            log.warn("[ActiveDays] shared refresh failed projectId={}, month={}", projectId, month, e);
+        }
+    }
+
+    private void refreshPrivate(Long projectId, Long userId, YearMonth month) {
+        try {
+            refreshTx.executeWithoutResult(status -> calendarRepository.refreshPrivateDayBits(
+                    projectId, userId, month.atDay(1),
+                    toUtc(month.atDay(1)), toUtc(month.plusMonths(1).atDay(1))));
+        } catch (Exception e) {
+            log.warn("[ActiveDays] private refresh failed projectId={}, userId={}, month={}", projectId, userId, month, e);
+        }
+    }
+
+    private static List<Integer> toDays(int bits) {
+        List<Integer> days = new ArrayList<>(Integer.bitCount(bits));
+        for (int day = 1; day <= 31; day++) {
+            if ((bits & (1 << (day - 1))) != 0) days.add(day);
+        }
+        return days;
+    }
+
+    // UTC 기준 시각 구간이 걸친 KST 월 목록
+    private static Set<YearMonth> monthsBetween(LocalDateTime utcStart, LocalDateTime utcEnd) {
+        Set<YearMonth> months = new LinkedHashSet<>();
+        YearMonth end = toKstMonth(utcEnd);
+        for (YearMonth m = toKstMonth(utcStart); !m.isAfter(end); m = m.plusMonths(1)) {
+            months.add(m);
+        }
+        return months;
+    }
+
+    private static YearMonth toKstMonth(LocalDateTime utc) {
+        return YearMonth.from(utc.atZone(UTC).withZoneSameInstant(KST));
+    }
+
+    // KST 날짜 00:00 → UTC
+    private static LocalDateTime toUtc(LocalDate kstDate) {
+        return kstDate.atStartOfDay().atZone(KST).withZoneSameInstant(UTC).toLocalDateTime();
+    }
+}
@@ -1,15 +1,24 @@
 package cola.springboot.cocal.cal;
 
+import cola.springboot.cocal.cal.DTO.ActiveDaysRangeResponse;
 import cola.springboot.cocal.cal.DTO.ActiveDaysResponse;
 import cola.springboot.cocal.cal.DTO.CalItemResponse;
 import cola.springboot.cocal.cal.DTO.CalTodoResponse;
 import cola.springboot.cocal.common.api.ApiResponse;
+import cola.springboot.cocal.common.util.ETagUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
 @RestController
@@ -17,18 +26,51 @@ import java.util.List;
 @RequestMapping("/api/cal/{projectId}")
 public class CalController {
     private final CalService calService;
+    private final CalStreamService calStreamService;
 
-    // 캘린더 + 이벤트 + 메모 조회
+    // 캘린더 + 이벤트 + 메모 조회 (from/to 지정 시 해당 구간만)
     @GetMapping()
     public ResponseEntity<ApiResponse<CalItemResponse>> getCalendarItems(
             @PathVariable("projectId") Long projectId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
             Authentication authentication,
             HttpServletRequest httpReq) {
         Long userId = Long.parseLong(authentication.getName());
-        CalItemResponse response = calService.getCalendarItems(userId, projectId);
-        return ResponseEntity.ok(ApiResponse.ok(response, httpReq.getRequestURI()));
+
+        // 변경이 없으면 응답 조립 없이 304
+        String etag = calService.getCalendarEtag(userId, projectId);
+        if (ETagUtils.matches(httpReq.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        CalItemResponse response = calService.getCalendarItems(userId, projectId, from, to);
+        return ResponseEntity.ok().eTag(etag).body(ApiResponse.ok(response, httpReq.getRequestURI()));
     }
 
+    // 캘린더 + 이벤트 + 메모 조회 (스트리밍). 응답 형식은 위와 같고, 이벤트가 많은 프로젝트용
+    // 스트리밍 중 오류가 나면 200 이후 연결이 끊겨 본문이 잘릴 수 있음 (클라이언트는 파싱 실패 시 재시도)
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamCalendarItems(
+            @PathVariable("projectId") Long projectId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Authentication authentication,
+            HttpServletRequest httpReq) {
+        Long userId = Long.parseLong(authentication.getName());
+
+        // 검증/권한 체크는 스트리밍 시작 전에 (에러 응답을 정상적으로 내려주기 위해)
+        CalService.validateDateRange(from, to);
+        String etag = calService.getCalendarEtag(userId, projectId);
+        if (ETagUtils.matches(httpReq.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(calStreamService.streamCalendarItems(projectId, from, to, httpReq.getRequestURI()));
+    }
 
     // TODO 조회
     @GetMapping("/todos")
@@ -40,9 +82,15 @@ public class CalController {
         // 1. Authentication에서 사용자 ID 추출
         Long userId = Long.parseLong(authentication.getName());
 
-        // 2. Service 호출
+        // 2. 변경이 없으면 304
+        String etag = calService.getTodosEtag(userId, projectId);
+        if (ETagUtils.matches(httpReq.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        // 3. Service 호출
         List<CalTodoResponse> todos = calService.getTodosForCalendar(userId, projectId);
-        return ResponseEntity.ok(ApiResponse.ok(todos, httpReq.getRequestURI()));
+        return ResponseEntity.ok().eTag(etag).body(ApiResponse.ok(todos, httpReq.getRequestURI()));
     }
 
     @GetMapping("/active-days")
@@ -57,4 +105,17 @@ public class CalController {
         return ResponseEntity.ok(response);
     }
 
+    // 여러 달 active-days 한 번에 조회 (from/to: yyyy-MM, 양끝 포함)
+    @GetMapping("/active-days/range")
+    public ResponseEntity<ActiveDaysRangeResponse> getActiveDaysRange(
+            @PathVariable("projectId") Long projectId,
+            @RequestParam("from") @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam("to") @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            Authentication authentication
+    ) {
+        Long userId = Long.parseLong(authentication.getName());
+        ActiveDaysRangeResponse response = calService.getActiveDaysRange(userId, projectId, from, to);
+        return ResponseEntity.ok(response);
+    }
+
 }
@@ -0,0 +1,53 @@
+package cola.springboot.cocal.cal;
+
+import cola.springboot.cocal.cal.DTO.CalItemResponse;
+import cola.springboot.cocal.common.util.LruTtlCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 프로젝트 캘린더 조회 결과(CalItemResponse) 캐시
+ * - 키에 프로젝트 버전이 포함되어 있어서, 쓰기가 발생하면 이전 버전 항목은 자연히 조회되지 않음
+ * - 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거(LRU)
+ * - 사용자 프로필처럼 버전에 잡히지 않는 변경을 위해 TTL도 함께 둠
+ * - 적중/미스/제거 수와 크기는 /actuator/metrics 의 cache.* (cache=cal-items) 로 확인
+ */
+@Component
+public class CalItemCache implements MeterBinder {
+
+    private record Key(Long projectId, long version, LocalDate from, LocalDate to) {}
+
+    private final LruTtlCache<Key, CalItemResponse> cache;
+
+    @Autowired
+    public CalItemCache(@Value("${app.cal.cache.max-size:500}") int maxSize,
+                        @Value("${app.cal.cache.ttl-seconds:600}") long ttlSeconds) {
+        this(maxSize, ttlSeconds, System::currentTimeMillis);
+    }
+
+    CalItemCache(int maxSize, long ttlSeconds, LongSupplier clock) {
+        this.cache = new LruTtlCache<>(maxSize, ttlSeconds * 1000L, clock);
+    }
+
+    // 캐시에 있으면 반환, 없으면 loader로 만들어서 저장 후 반환 (DB 조회는 락 밖에서 수행)
+    public CalItemResponse get(Long projectId, long version, LocalDate from, LocalDate to,
+                               Supplier<CalItemResponse> loader) {
+        return cache.get(new Key(projectId, version, from, to), loader);
+    }
+
+    public LruTtlCache.Stats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        cache.bindTo(registry, "cal-items");
+    }
+}
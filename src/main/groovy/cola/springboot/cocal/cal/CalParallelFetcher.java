@@ -0,0 +1,101 @@
+package cola.springboot.cocal.cal;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 캘린더 조회의 서로 독립적인 하위 쿼리(멤버/링크/메모)를 병렬로 실행
+ * - app.cal.parallel-fetch.enabled=true 일 때만 사용
+ * - 작업마다 별도 read-only 트랜잭션(= 별도 커넥션)에서 실행
+ *   → 결과 엔티티는 트랜잭션이 끝나면 detach 되므로, 호출 쪽에서 읽는 연관관계는 쿼리에서 fetch join 해야 함
+ * - 호출 스레드는 자기 커넥션을 쥔 채로 결과를 기다림 (getCalendarItems 트랜잭션 + open-in-view)
+ *   → 워커가 커넥션을 무제한으로 달라고 하면, 동시 요청이 풀 크기만큼 몰렸을 때 모든 커넥션을 기다리는 요청이 쥐고
+ *     워커는 커넥션 타임아웃까지 막힘
+ * - 그래서 워커가 동시에 쥘 수 있는 커넥션을 max-connections(풀 크기보다 작게)개 허가로 제한
+ *   허가를 못 얻으면 기다리지 않고 호출 스레드에서 바로 실행(기존 트랜잭션에 참여)하므로 커넥션을 추가로 잡지 않음
+ *   → 워커를 기다리는 요청은 최대 max-connections 개라 나머지 커넥션은 항상 끝나는 요청이 쥐고 있음
+ */
+@Component
+public class CalParallelFetcher {
+    private final boolean enabled;
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate readOnlyTx;
+    // 워커가 동시에 쓰는 커넥션 수 제한
+    private final Semaphore connectionPermits;
+
+    public CalParallelFetcher(PlatformTransactionManager transactionManager,
+                              @Value("${app.cal.parallel-fetch.enabled:false}") boolean enabled,
+                              @Value("${app.cal.parallel-fetch.threads:4}") int threads,
+                              @Value("${app.cal.parallel-fetch.queue-size:32}") int queueSize,
+                              @Value("${app.cal.parallel-fetch.max-connections:4}") int maxConnections,
+                              @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        if (enabled && maxConnections >= poolSize) {
+            throw new IllegalStateException("app.cal.parallel-fetch.max-connections(" + maxConnections
+                    + ") 는 커넥션 풀 크기(" + poolSize + ")보다 작아야 합니다.");
+        }
+        this.enabled = enabled;
+        this.connectionPermits = new Semaphore(maxConnections);
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                r -> {
+                    Thread t = new Thread(r, "cal-fetch-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 커넥션 허가가 있으면 별도 read-only 트랜잭션에서 비동기 실행, 없으면 호출 스레드에서 바로 실행
+    public <T> CompletableFuture<T> submit(Supplier<T> query) {
+        if (!connectionPermits.tryAcquire()) {
+            try {
+                return CompletableFuture.completedFuture(query.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> readOnlyTx.execute(status -> query.get()), executor)
+                    .whenComplete((result, e) -> connectionPermits.release());
+        } catch (RuntimeException e) {
+            connectionPermits.release();
+            throw e;
+        }
+    }
+
+    // 결과 대기 (작업에서 난 예외는 감싸지 않고 그대로 던짐)
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
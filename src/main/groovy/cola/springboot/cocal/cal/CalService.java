@@ -1,13 +1,14 @@
 package cola.springboot.cocal.cal;
 
+import cola.springboot.cocal.cal.DTO.ActiveDaysRangeResponse;
 import cola.springboot.cocal.cal.DTO.ActiveDaysResponse;
 import cola.springboot.cocal.cal.DTO.CalItemResponse;
 import cola.springboot.cocal.cal.DTO.CalTodoResponse;
 import cola.springboot.cocal.common.exception.BusinessException;
+import cola.springboot.cocal.common.util.ETagUtils;
 import cola.springboot.cocal.event.Event;
 import cola.springboot.cocal.event.EventRepository;
 import cola.springboot.cocal.event.dto.EventResponse;
-import cola.springboot.cocal.eventLink.EventLink;
 import cola.springboot.cocal.eventLink.LinkItem;
 import cola.springboot.cocal.eventLink.EventLinkRepository;
 import cola.springboot.cocal.eventMember.EventMember;
@@ -20,9 +21,7 @@ import cola.springboot.cocal.project.Project;
 import cola.springboot.cocal.project.ProjectRepository;
 import cola.springboot.cocal.projectMember.ProjectMember;
 import cola.springboot.cocal.projectMember.ProjectMemberRepository;
-import cola.springboot.cocal.todo.event_todo.EventTodo;
-import cola.springboot.cocal.todo.event_todo.EventTodoRepository;
-import cola.springboot.cocal.todo.private_todo.PrivateTodoRepository;
+import cola.springboot.cocal.todo.agenda.AgendaItemRepository;
 import cola.springboot.cocal.user.User;
 import cola.springboot.cocal.user.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -34,8 +33,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.ZoneId;
-import java.util.ArrayList;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -43,65 +43,111 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class CalService {
-    private final PrivateTodoRepository privateTodoRepository;
-    private final EventTodoRepository eventTodoRepository;
     private final ProjectMemberRepository projectMemberRepository;
     private final ProjectRepository projectRepository;
     private final EventRepository eventRepository;
     private final EventLinkRepository eventLinkRepository;
     private final EventMemberRepository eventMemberRepository;
     private final MemoRepository memoRepository;
-    private final CalendarRepository calendarRepository;
     private final UserRepository userRepository;
     private final InviteRepository inviteRepository;
+    private final ProjectVersionTracker projectVersionTracker;
+    private final CalItemCache calItemCache;
+    private final ActiveDaysService activeDaysService;
+    private final CalParallelFetcher calParallelFetcher;
+    private final AgendaItemRepository agendaItemRepository;
     private static final Logger log = LoggerFactory.getLogger(CalService.class);
 
-    // event, memo 조회(calendar 화면에서)
-    @Transactional(readOnly = true)
-    public CalItemResponse getCalendarItems(Long userId, Long projectId) {
-        //  프로젝트의 시작일 가져오기
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new BusinessException(HttpStatus.NOT_FOUND, "PROJECT_NOT_FOUND", "프로젝트를 찾을 수 없습니다."));
+    // active-days 범위 조회 최대 개월 수
+    private static final int MAX_ACTIVE_DAYS_MONTHS = 24;
 
-        LocalDate startDate = project.getStartDate(); // Project 엔티티에 startDate 필드
+    // event, memo 조회(calendar 화면에서). from/to(KST 날짜, 양끝 포함)가 있으면 해당 구간만 조회
+    @Transactional(readOnly = true)
+    public CalItemResponse getCalendarItems(Long userId, Long projectId, LocalDate from, LocalDate to) {
+        validateDateRange(from, to);
 
         // 권한 체크
+        checkCalendarAccess(userId, projectId);
+
+        // 캐시 조회: 프로젝트 버전이 바뀌지 않았으면 DB 조회 없이 이전 결과 반환
+        // (버전은 조회 전에 읽어야 새 버전 키에 이전 데이터가 저장되지 않음)
+        long version = projectVersionTracker.current(projectId);
+        return calItemCache.get(projectId, version, from, to, () -> loadCalendarItems(projectId, from, to));
+    }
+
+    // 구간 파라미터 검증 (둘 다 있거나 둘 다 없어야 함)
+    static void validateDateRange(LocalDate from, LocalDate to) {
+        if ((from == null) != (to == null)) {
+            throw new BusinessException(HttpStatus.BAD_REQUEST, "INVALID_DATE_RANGE", "from과 to는 함께 지정해야 합니다.");
+        }
+        if (from != null && to.isBefore(from)) {
+            throw new BusinessException(HttpStatus.BAD_REQUEST, "INVALID_DATE_RANGE", "to는 from 이후여야 합니다.");
+        }
+    }
+
+    // 캘린더 조회용 ETag (권한 체크 후 DB 버전만으로 계산 → 어느 서버에서 계산해도 같은 값)
+    @Transactional(readOnly = true)
+    public String getCalendarEtag(Long userId, Long projectId) {
+        checkCalendarAccess(userId, projectId);
+        return ETagUtils.strong("cal", projectId, projectVersionTracker.current(projectId));
+    }
+
+    // 프로젝트 멤버 여부 확인 (프로젝트가 없으면 404, 멤버가 아니면 403)
+    private void checkCalendarAccess(Long userId, Long projectId) {
         boolean isMember = projectMemberRepository.existsByProjectIdAndUserIdAndStatus(projectId, userId, ProjectMember.MemberStatus.ACTIVE);
         if (!isMember) {
+            // 프로젝트 자체가 없으면 404
+            if (!projectRepository.existsById(projectId)) {
+                throw new BusinessException(HttpStatus.NOT_FOUND, "PROJECT_NOT_FOUND", "프로젝트를 찾을 수 없습니다.");
+            }
             throw new BusinessException(HttpStatus.FORBIDDEN, "FORBIDDEN", "프로젝트 멤버만 조회할 수 있습니다.");
         }
+    }
 
-        // 이벤트 조회
-        List<Event> events = eventRepository.findAllByProjectId(projectId);
-        if (events.isEmpty()) {
-            return CalItemResponse.builder()
-                    .year(startDate.getYear())
-                    .month(startDate.getMonthValue())
-                    .day(startDate.getDayOfMonth())
-                    .events(List.of())
-                    .memos(List.of())
-                    .build();
+    // 캘린더 응답 조립 (캐시 미스 시에만 실행)
+    private CalItemResponse loadCalendarItems(Long projectId, LocalDate from, LocalDate to) {
+        //  프로젝트의 시작일 가져오기
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new BusinessException(HttpStatus.NOT_FOUND, "PROJECT_NOT_FOUND", "프로젝트를 찾을 수 없습니다."));
+
+        LocalDate startDate = project.getStartDate(); // Project 엔티티에 startDate 필드
+
+        // 이벤트 조회 (구간 지정 시 KST 날짜 경계를 UTC로 변환해서 조회)
+        List<Event> events;
+        if (from == null) {
+            events = eventRepository.findAllByProjectId(projectId);
+        } else {
+            ZoneId kst = ZoneId.of("Asia/Seoul");
+            ZoneId utc = ZoneId.of("UTC");
+            LocalDateTime utcStart = from.atStartOfDay().atZone(kst).withZoneSameInstant(utc).toLocalDateTime();
+            LocalDateTime utcEnd = to.plusDays(1).atStartOfDay().atZone(kst).withZoneSameInstant(utc).toLocalDateTime();
+            events = eventRepository.findAllByProjectIdInRange(projectId, utcStart, utcEnd);
         }
 
         // 이벤트 ID 목록 추출
         List<Long> eventIds = events.stream().map(Event::getId).toList();
 
-        // 멤버 + 링크 한 번에 조회
-        List<EventMember> members = eventMemberRepository.findAllByEventIds(eventIds);
-        List<EventLink> links = eventLinkRepository.findAllByEventIds(eventIds);
-
-        // 6eventId 기준으로 그룹핑 (메모리상 매핑)
-        Map<Long, List<User>> memberMap = members.stream()
-                .collect(Collectors.groupingBy(
-                        em -> em.getEvent().getId(),
-                        Collectors.mapping(EventMember::getUser, Collectors.toList())
-                ));
-
-        Map<Long, List<LinkItem>> linkMap = links.stream()
-                .collect(Collectors.groupingBy(
-                        el -> el.getEvent().getId(),
-                        Collectors.mapping(LinkItem::fromEntity, Collectors.toList())
-                ));
+        // 멤버 + 링크 + 메모 조회 (서로 독립적이라 병렬 모드면 동시에 실행)
+        // 이벤트가 없는 구간(메모만 있는 주 등)이어도 메모는 항상 조회
+        Map<Long, List<User>> memberMap;
+        Map<Long, List<LinkItem>> linkMap;
+        List<MemoResponse> memoResponses;
+        if (eventIds.isEmpty()) {
+            memberMap = Map.of();
+            linkMap = Map.of();
+            memoResponses = findMemos(projectId, from, to);
+        } else if (calParallelFetcher.isEnabled()) {
+            var membersFuture = calParallelFetcher.submit(() -> findMemberMap(eventIds));
+            var linksFuture = calParallelFetcher.submit(() -> findLinkMap(eventIds));
+            var memosFuture = calParallelFetcher.submit(() -> findMemos(projectId, from, to));
+            memberMap = CalParallelFetcher.await(membersFuture);
+            linkMap = CalParallelFetcher.await(linksFuture);
+            memoResponses = CalParallelFetcher.await(memosFuture);
+        } else {
+            memberMap = findMemberMap(eventIds);
+            linkMap = findLinkMap(eventIds);
+            memoResponses = findMemos(projectId, from, to);
+        }
 
         // EventResponse 변환
         List<EventResponse> eventResponses = events.stream()
@@ -112,12 +158,6 @@ public class CalService {
                 ))
                 .toList();
 
-        // 메모 조회
-        List<MemoResponse> memoResponses = memoRepository.findAllByProjectIdWithAuthor(projectId)
-                .stream()
-                .map(memo -> MemoMapper.toResponse(memo, memo.getAuthor()))
-                .toList();
-
         // 최종 응답 조립
         return CalItemResponse.builder()
                 .year(startDate.getYear())
@@ -129,61 +169,95 @@ public class CalService {
 
     }
 
+    // eventId 기준으로 멤버 그룹핑
+    private Map<Long, List<User>> findMemberMap(List<Long> eventIds) {
+        return eventMemberRepository.findAllByEventIds(eventIds).stream()
+                .collect(Collectors.groupingBy(
+                        em -> em.getEvent().getId(),
+                        Collectors.mapping(EventMember::getUser, Collectors.toList())
+                ));
+    }
+
+    // eventId 기준으로 링크 그룹핑
+    private Map<Long, List<LinkItem>> findLinkMap(List<Long> eventIds) {
+        return eventLinkRepository.findAllByEventIds(eventIds).stream()
+                .collect(Collectors.groupingBy(
+                        el -> el.getEvent().getId(),
+                        Collectors.mapping(LinkItem::fromEntity, Collectors.toList())
+                ));
+    }
+
+    // 메모 조회 (구간 지정 시 memo_date 기준)
+    private List<MemoResponse> findMemos(Long projectId, LocalDate from, LocalDate to) {
+        var memos = from == null
+                ? memoRepository.findAllByProjectIdWithAuthor(projectId)
+                : memoRepository.findAllByProjectIdAndMemoDateBetweenWithAuthor(projectId, from, to);
+        return memos.stream()
+                .map(memo -> MemoMapper.toResponse(memo, memo.getAuthor()))
+                .toList();
+    }
+
+    // todo 조회용 ETag
+    // 이벤트 TODO는 이벤트 변경에도 영향을 받고, 개인 TODO는 모든 프로젝트 것을 내려주므로 사용자 버전까지 포함
+    @Transactional(readOnly = true)
+    public String getTodosEtag(Long userId, Long projectId) {
+        checkTodoAccess(userId, projectId);
+        ProjectVersionTracker.TodoVersions v = projectVersionTracker.currentTodoVersions(projectId, userId);
+        return ETagUtils.strong("caltodo", projectId, v.calendar(), v.todos(), v.userTodos());
+    }
+
     // todo 조회 (왼쪽 하단)
     @Transactional(readOnly = true)
     public List<CalTodoResponse> getTodosForCalendar(Long userId, Long projectId) {
         // 권한 체크
+        checkTodoAccess(userId, projectId);
+
+        // 사용자별 프로젝션에서 한 번에 조회 (개인 TODO → 이벤트 TODO 순)
+        return agendaItemRepository.findAllByUserIdAndProjectId(userId, projectId)
+                .stream()
+                .map(CalTodoResponse::fromAgendaItem)
+                .collect(Collectors.toList());
+    }
+
+    private void checkTodoAccess(Long userId, Long projectId) {
         boolean isMember = projectMemberRepository.existsByProjectIdAndUserIdAndStatus(projectId, userId, ProjectMember.MemberStatus.ACTIVE);
         if (!isMember) {
             throw new BusinessException(HttpStatus.FORBIDDEN, "FORBIDDEN", "프로젝트 멤버만 이벤트를 조회할 수 있습니다.");
         }
+    }
 
-        // PrivateTodo 조회
-        // 내가 생성한 모든 PrivateTodo를 가져옴
-        List<CalTodoResponse> privateTodos = privateTodoRepository.findAllByOwnerId(userId)
-                .stream()
-                .map(todo -> CalTodoResponse.builder()
-                        .id(todo.getId())
-                        .type("PRIVATE")
-                        .title(todo.getTitle())
-                        .description(todo.getDescription())
-                        .url(todo.getUrl())
-                        .date(todo.getDate())
-                        .projectId(todo.getProjectId())
-                        .status(todo.getStatus().name())
-                        .offsetMinutes(todo.getOffsetMinutes())
-                        .build())
-                .collect(Collectors.toList());
-
-        // EventTodo 조회
-        List<EventTodo> eventTodos = eventTodoRepository.findEventTodosByProjectIdAndUserId(userId, projectId);
-
-        // DTO 변환
-        List<CalTodoResponse> eventTodoResponses = eventTodos.stream()
-                .map(todo -> CalTodoResponse.builder()
-                        .id(todo.getId())
-                        .type("EVENT")
-                        .title(todo.getTitle())
-                        .description(todo.getDescription())
-                        .url(todo.getUrl())
-                        .eventId(todo.getEvent().getId())          // ManyToOne 매핑 사용
-                        .projectId(todo.getEvent().getProject().getId())
-                        .status(todo.getStatus().name())
-                        .offsetMinutes(todo.getOffsetMinutes())
-                        .build())
-                .collect(Collectors.toList());
+    // 개인/이벤트 todo가 있는 날짜 조회
+    public ActiveDaysResponse getActiveDays(Long userId, Long projectId, int year, int month) {
+        checkActiveDaysAccess(userId, projectId);
 
-        // 3. 합치기
-        List<CalTodoResponse> allTodos = new ArrayList<>();
-        allTodos.addAll(privateTodos);
-        allTodos.addAll(eventTodoResponses);
+        // 월별 비트맵에서 조회 (이벤트 TODO + 본인 개인 TODO)
+        List<Integer> days = activeDaysService.getActiveDays(projectId, userId, YearMonth.of(year, month));
 
-        return allTodos;
+        return new ActiveDaysResponse(days);
     }
 
+    // 여러 달의 todo 있는 날짜를 한 번에 조회 (권한 체크 1회 + 비트맵 조회 1회)
+    public ActiveDaysRangeResponse getActiveDaysRange(Long userId, Long projectId, YearMonth from, YearMonth to) {
+        if (to.isBefore(from)) {
+            throw new BusinessException(HttpStatus.BAD_REQUEST, "INVALID_MONTH_RANGE", "to는 from 이후여야 합니다.");
+        }
+        if (from.until(to, ChronoUnit.MONTHS) + 1 > MAX_ACTIVE_DAYS_MONTHS) {
+            throw new BusinessException(HttpStatus.BAD_REQUEST, "INVALID_MONTH_RANGE",
+                    "한 번에 최대 " + MAX_ACTIVE_DAYS_MONTHS + "개월까지 조회할 수 있습니다.");
+        }
 
-    // 개인/이벤트 todo가 있는 날짜 조회
-    public ActiveDaysResponse getActiveDays(Long userId, Long projectId, int year, int month) {
+        checkActiveDaysAccess(userId, projectId);
+
+        List<ActiveDaysRangeResponse.MonthActiveDays> months = activeDaysService.getActiveDays(projectId, userId, from, to)
+                .entrySet().stream()
+                .map(e -> new ActiveDaysRangeResponse.MonthActiveDays(
+                        e.getKey().getYear(), e.getKey().getMonthValue(), e.getValue()))
+                .toList();
+        return new ActiveDaysRangeResponse(months);
+    }
+
+    // 소유자 이거나 초대 받은 사용자 중 수락한 경우만 접근 가능
+    private void checkActiveDaysAccess(Long userId, Long projectId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(
                         HttpStatus.NOT_FOUND,
@@ -209,35 +283,5 @@ public class CalService {
                     "프로젝트 접근 권한이 없습니다."
             );
         }
-
-        ZoneId kst = ZoneId.of("Asia/Seoul");
-        ZoneId utc = ZoneId.of("UTC");
-
-        // KST 기준 월의 시작
-        LocalDateTime kstStart = LocalDate.of(year, month, 1).atStartOfDay();
-
-        // KST 기준 월의 끝: 다음달 1일 00:00
-        LocalDateTime kstEnd = LocalDate.of(year, month, 1)
-                .plusMonths(1)
-                .atStartOfDay();
-
-        // UTC 변환
-        LocalDateTime utcStart = kstStart.atZone(kst).withZoneSameInstant(utc).toLocalDateTime();
-
-        //  monthEnd에서 1ns라도 더 줄이기 (exclusive 비교를 보장)
-        LocalDateTime utcEnd = kstEnd.atZone(kst)
-                .withZoneSameInstant(utc)
-                .toLocalDateTime()
-                .minusNanos(1);
-
-        List<Integer> days = calendarRepository.findActiveDaysByProject(
-                projectId,
-                utcStart,
-                utcEnd,
-                year,
-                month
-        );
-
-        return new ActiveDaysResponse(days);
     }
 }
@@ -0,0 +1,181 @@
+package cola.springboot.cocal.cal;
+
+import cola.springboot.cocal.common.exception.BusinessException;
+import cola.springboot.cocal.event.Event;
+import cola.springboot.cocal.event.EventRepository;
+import cola.springboot.cocal.event.EventResponseAssembler;
+import cola.springboot.cocal.event.dto.EventResponse;
+import cola.springboot.cocal.memo.DTO.MemoMapper;
+import cola.springboot.cocal.memo.Memo;
+import cola.springboot.cocal.memo.MemoRepository;
+import cola.springboot.cocal.project.Project;
+import cola.springboot.cocal.project.ProjectRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 캘린더 조회 스트리밍 응답
+ * - CalService.getCalendarItems와 같은 JSON(ApiResponse<CalItemResponse>)을 JsonGenerator로 바로 씀
+ * - 이벤트는 커서로 읽고 CHUNK_SIZE 단위로 멤버/링크를 묶어 조회한 뒤 영속성 컨텍스트를 비움
+ *   → 요청당 메모리 사용량이 프로젝트 크기와 무관하게 일정
+ * - 권한 체크는 호출 전에 끝나 있어야 함 (스트리밍 시작 후에는 상태 코드를 바꿀 수 없음)
+ * - 200 응답이라도 본문이 중간에 끊길 수 있음: 쓰는 도중 IO/DB 오류가 나면 예외를 그대로 던져
+ *   컨테이너가 연결을 끊게 함 (닫는 괄호를 채우지 않으므로 잘린 본문은 JSON 파싱에 실패함)
+ *   → 클라이언트는 파싱 실패/연결 끊김을 요청 실패로 보고 재시도해야 함
+ */
+@Service
+public class CalStreamService {
+    private static final Logger log = LoggerFactory.getLogger(CalStreamService.class);
+    private static final int CHUNK_SIZE = 500;
+
+    private final ProjectRepository projectRepository;
+    private final EventRepository eventRepository;
+    private final EventResponseAssembler eventResponseAssembler;
+    private final MemoRepository memoRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTx;
+
+    public CalStreamService(ProjectRepository projectRepository,
+                            EventRepository eventRepository,
+                            EventResponseAssembler eventResponseAssembler,
+                            MemoRepository memoRepository,
+                            EntityManager entityManager,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager) {
+        this.projectRepository = projectRepository;
+        this.eventRepository = eventRepository;
+        this.eventResponseAssembler = eventResponseAssembler;
+        this.memoRepository = memoRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        // 응답 스트림은 요청 스레드 밖에서 쓰일 수 있으므로 트랜잭션을 직접 엶 (커서는 트랜잭션 안에서만 유효)
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    // 스트리밍 응답 본문 생성 (from/to는 검증 완료된 값)
+    public StreamingResponseBody streamCalendarItems(Long projectId, LocalDate from, LocalDate to, String path) {
+        return out -> {
+            JsonGenerator gen = objectMapper.createGenerator(out);
+            // 실패 후 close()가 열린 배열/객체를 닫아 잘린 본문이 완전한 JSON처럼 보이는 것을 막음
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            try (gen) {
+                gen.writeStartObject();
+                gen.writeBooleanField("success", true);
+                gen.writeFieldName("data");
+                readOnlyTx.executeWithoutResult(status -> writeData(gen, projectId, from, to));
+                gen.writeNullField("error");
+                gen.writeStringField("serverTime", OffsetDateTime.now().toString());
+                gen.writeStringField("path", path);
+                gen.writeEndObject();
+            } catch (IOException | RuntimeException e) {
+                // 클라이언트 연결 끊김 또는 조회 실패. 이미 200이 나갔으므로 예외를 던져 연결을 끊음
+                log.warn("[CalStream] stream aborted projectId={}", projectId, e);
+                throw e;
+            }
+        };
+    }
+
+    private void writeData(JsonGenerator gen, Long projectId, LocalDate from, LocalDate to) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new BusinessException(HttpStatus.NOT_FOUND, "PROJECT_NOT_FOUND", "프로젝트를 찾을 수 없습니다."));
+        LocalDate startDate = project.getStartDate();
+
+        try {
+            gen.writeStartObject();
+            gen.writeNumberField("year", startDate.getYear());
+            gen.writeNumberField("month", startDate.getMonthValue());
+            gen.writeNumberField("day", startDate.getDayOfMonth());
+
+            gen.writeArrayFieldStart("events");
+            writeEvents(gen, projectId, from, to);
+            gen.writeEndArray();
+
+            // 이벤트가 없는 구간이어도 메모는 항상 씀 (CalService.getCalendarItems와 동일)
+            gen.writeArrayFieldStart("memos");
+            writeMemos(gen, projectId, from, to);
+            gen.writeEndArray();
+            gen.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long writeEvents(JsonGenerator gen, Long projectId, LocalDate from, LocalDate to) throws IOException {
+        long count = 0;
+        try (Stream<Event> events = openEventStream(projectId, from, to)) {
+            Iterator<Event> it = events.iterator();
+            List<Event> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (it.hasNext()) {
+                chunk.add(it.next());
+                if (chunk.size() == CHUNK_SIZE) {
+                    count += writeEventChunk(gen, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                count += writeEventChunk(gen, chunk);
+            }
+        }
+        return count;
+    }
+
+    // 청크 단위로 멤버/링크를 한 번에 조회해서 쓰고, 영속성 컨텍스트 비우기
+    private int writeEventChunk(JsonGenerator gen, List<Event> chunk) throws IOException {
+        for (EventResponse response : eventResponseAssembler.toResponses(chunk)) {
+            gen.writeObject(response);
+        }
+        gen.flush();
+        entityManager.clear();
+        return chunk.size();
+    }
+
+    private void writeMemos(JsonGenerator gen, Long projectId, LocalDate from, LocalDate to) throws IOException {
+        try (Stream<Memo> memos = from == null
+                ? memoRepository.streamAllByProjectIdWithAuthor(projectId)
+                : memoRepository.streamAllByProjectIdAndMemoDateBetweenWithAuthor(projectId, from, to)) {
+            Iterator<Memo> it = memos.iterator();
+            int written = 0;
+            while (it.hasNext()) {
+                Memo memo = it.next();
+                gen.writeObject(MemoMapper.toResponse(memo, memo.getAuthor()));
+                if (++written % CHUNK_SIZE == 0) {
+                    gen.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
+    // 구간 지정 시 KST 날짜 경계를 UTC로 변환해서 조회
+    private Stream<Event> openEventStream(Long projectId, LocalDate from, LocalDate to) {
+        if (from == null) {
+            return eventRepository.streamAllByProjectId(projectId);
+        }
+        ZoneId kst = ZoneId.of("Asia/Seoul");
+        ZoneId utc = ZoneId.of("UTC");
+        LocalDateTime utcStart = from.atStartOfDay().atZone(kst).withZoneSameInstant(utc).toLocalDateTime();
+        LocalDateTime utcEnd = to.plusDays(1).atStartOfDay().atZone(kst).withZoneSameInstant(utc).toLocalDateTime();
+        return eventRepository.streamAllByProjectIdInRange(projectId, utcStart, utcEnd);
+    }
+}
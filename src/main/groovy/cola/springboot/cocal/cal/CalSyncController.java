@@ -0,0 +1,28 @@
+package cola.springboot.cocal.cal;
+
+import cola.springboot.cocal.cal.DTO.CalChangesResponse;
+import cola.springboot.cocal.common.api.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/projects/{projectId}/calendar")
+public class CalSyncController {
+    private final CalSyncService calSyncService;
+
+    // since(cursor) 이후 생성/수정/삭제된 캘린더 항목 조회
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponse<CalChangesResponse>> getChanges(
+            @PathVariable("projectId") Long projectId,
+            @RequestParam(value = "since", required = false) Long since,
+            Authentication authentication,
+            HttpServletRequest httpReq) {
+        Long userId = Long.parseLong(authentication.getName());
+        CalChangesResponse response = calSyncService.getChanges(userId, projectId, since);
+        return ResponseEntity.ok(ApiResponse.ok(response, httpReq.getRequestURI()));
+    }
+}
@@ -0,0 +1,134 @@
+package cola.springboot.cocal.cal;
+
+import cola.springboot.cocal.cal.DTO.CalChangesResponse;
+import cola.springboot.cocal.cal.DTO.CalTodoResponse;
+import cola.springboot.cocal.common.exception.BusinessException;
+import cola.springboot.cocal.event.EventRepository;
+import cola.springboot.cocal.event.EventResponseAssembler;
+import cola.springboot.cocal.event.dto.EventResponse;
+import cola.springboot.cocal.memo.DTO.MemoMapper;
+import cola.springboot.cocal.memo.DTO.MemoResponse;
+import cola.springboot.cocal.memo.MemoRepository;
+import cola.springboot.cocal.project.ProjectRepository;
+import cola.springboot.cocal.projectMember.ProjectMember;
+import cola.springboot.cocal.projectMember.ProjectMemberRepository;
+import cola.springboot.cocal.todo.event_todo.EventTodoRepository;
+import cola.springboot.cocal.todo.private_todo.PrivateTodoRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 캘린더 증분 동기화
+ * - 생성/수정: 각 테이블의 updated_at 기준
+ * - 삭제: calendar_tombstones 기준
+ * - cursor는 서버 시각(epoch millis). 커밋 지연으로 빠지는 행이 없도록 overlap 만큼 겹쳐서 조회하므로
+ *   같은 항목이 두 번 내려갈 수 있음 (클라이언트는 id 기준 upsert)
+ */
+@Service
+@RequiredArgsConstructor
+public class CalSyncService {
+    private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectRepository projectRepository;
+    private final EventRepository eventRepository;
+    private final EventResponseAssembler eventResponseAssembler;
+    private final MemoRepository memoRepository;
+    private final PrivateTodoRepository privateTodoRepository;
+    private final EventTodoRepository eventTodoRepository;
+    private final CalTombstoneRepository calTombstoneRepository;
+    private static final Logger log = LoggerFactory.getLogger(CalSyncService.class);
+
+    // 전체 조회 시 기준 시각
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Value("${app.cal.sync.overlap-seconds:5}")
+    private long overlapSeconds;
+
+    @Value("${app.cal.sync.tombstone-retention-days:30}")
+    private long retentionDays;
+
+    // since 이후 변경분 조회. since가 없거나 tombstone 보관기간보다 오래되면 전체 스냅샷(fullResync)
+    @Transactional(readOnly = true)
+    public CalChangesResponse getChanges(Long userId, Long projectId, Long since) {
+        // 권한 체크
+        boolean isMember = projectMemberRepository.existsByProjectIdAndUserIdAndStatus(projectId, userId, ProjectMember.MemberStatus.ACTIVE);
+        if (!isMember) {
+            if (!projectRepository.existsById(projectId)) {
+                throw new BusinessException(HttpStatus.NOT_FOUND, "PROJECT_NOT_FOUND", "프로젝트를 찾을 수 없습니다.");
+            }
+            throw new BusinessException(HttpStatus.FORBIDDEN, "FORBIDDEN", "프로젝트 멤버만 조회할 수 있습니다.");
+        }
+        if (since != null && since < 0) {
+            throw new BusinessException(HttpStatus.BAD_REQUEST, "INVALID_CURSOR", "유효하지 않은 cursor입니다.");
+        }
+
+        // 조회 전에 cursor를 잡아야 조회 중에 생긴 변경이 다음 요청에서 빠지지 않음
+        LocalDateTime now = LocalDateTime.now();
+        long cursor = toMillis(now);
+
+        boolean fullResync = since == null || since < toMillis(now.minusDays(retentionDays));
+        LocalDateTime from = fullResync ? BEGINNING : toLocal(since).minusSeconds(overlapSeconds);
+
+        List<EventResponse> events = eventResponseAssembler.toResponses(eventRepository.findAllByProjectIdUpdatedAfter(projectId, from));
+
+        List<MemoResponse> memos = memoRepository.findAllByProjectIdUpdatedAfterWithAuthor(projectId, from)
+                .stream()
+                .map(memo -> MemoMapper.toResponse(memo, memo.getAuthor()))
+                .toList();
+
+        List<CalTodoResponse> todos = new ArrayList<>();
+        privateTodoRepository.findAllByProjectIdAndOwnerIdAndUpdatedAtAfter(projectId, userId, from)
+                .forEach(todo -> todos.add(CalTodoResponse.fromPrivateTodo(todo)));
+        eventTodoRepository.findProjectEventTodosUpdatedAfter(projectId, from)
+                .forEach(todo -> todos.add(CalTodoResponse.fromEventTodo(todo)));
+
+        // 전체 스냅샷이면 삭제 목록은 필요 없음
+        List<CalChangesResponse.DeletedItem> deleted = fullResync
+                ? List.of()
+                : calTombstoneRepository.findDeletedSince(projectId, userId, from).stream()
+                        .map(t -> CalChangesResponse.DeletedItem.builder()
+                                .type(t.getItemType().name())
+                                .id(t.getItemId())
+                                .deletedAt(t.getDeletedAt())
+                                .build())
+                        .toList();
+
+        return CalChangesResponse.builder()
+                .cursor(cursor)
+                .fullResync(fullResync)
+                .events(events)
+                .memos(memos)
+                .todos(todos)
+                .deleted(deleted)
+                .build();
+    }
+
+    // 보관기간 지난 tombstone 정리 (매일 04:30)
+    @Scheduled(cron = "0 30 4 * * *")
+    @Transactional
+    public void purgeTombstones() {
+        int deleted = calTombstoneRepository.deleteOlderThan(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("[CalSync] purged {} tombstones", deleted);
+        }
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocal(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,63 @@
+package cola.springboot.cocal.cal;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 삭제된 캘린더 항목 기록 (증분 동기화에서 삭제 전달용)
+@Entity
+@Table(name = "calendar_tombstones",
+        indexes = {
+                @Index(name = "idx_ct_project_deleted", columnList = "project_id, deleted_at"),
+                @Index(name = "idx_ct_deleted", columnList = "deleted_at")
+        })
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalTombstone {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "item_type", nullable = false, length = 20)
+    private ItemType itemType;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    // PRIVATE_TODO일 때만 사용
+    @Column(name = "owner_id")
+    private Long ownerId;
+
+    // 엔티티 updated_at과 같은 시계(애플리케이션 시간)를 쓰도록 직접 설정
+    @Builder.Default
+    @Column(name = "deleted_at", nullable = false, updatable = false)
+    private LocalDateTime deletedAt = LocalDateTime.now();
+
+    public enum ItemType {
+        EVENT, MEMO, PRIVATE_TODO, EVENT_TODO
+    }
+
+    public static CalTombstone of(Long projectId, ItemType itemType, Long itemId) {
+        return CalTombstone.builder()
+                .projectId(projectId)
+                .itemType(itemType)
+                .itemId(itemId)
+                .build();
+    }
+
+    public static CalTombstone ofPrivateTodo(Long projectId, Long todoId, Long ownerId) {
+        return CalTombstone.builder()
+                .projectId(projectId)
+                .itemType(ItemType.PRIVATE_TODO)
+                .itemId(todoId)
+                .ownerId(ownerId)
+                .build();
+    }
+}
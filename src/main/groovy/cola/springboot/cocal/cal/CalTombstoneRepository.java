@@ -0,0 +1,30 @@
+package cola.springboot.cocal.cal;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CalTombstoneRepository extends JpaRepository<CalTombstone, Long> {
+
+    // since 이후 삭제된 항목 (개인 TODO는 본인 것만)
+    @Query("""
+        select t
+        from CalTombstone t
+        where t.projectId = :projectId
+          and t.deletedAt > :since
+          and (t.ownerId is null or t.ownerId = :userId)
+        order by t.deletedAt asc, t.id asc
+    """)
+    List<CalTombstone> findDeletedSince(@Param("projectId") Long projectId,
+                                        @Param("userId") Long userId,
+                                        @Param("since") LocalDateTime since);
+
+    // 보관기간이 지난 tombstone 정리
+    @Modifying
+    @Query("delete from CalTombstone t where t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -2,45 +2,164 @@ package cola.springboot.cocal.cal;
 
 import cola.springboot.cocal.event.Event;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface CalendarRepository extends JpaRepository<Event, Long> {
 
+    interface DayBitsRow {
+        String getMonth();      // yyyy-MM
+        Long getUserId();
+        Integer getDayBits();
+    }
+
+    // [fromMonth, toMonth] 구간의 저장된 월 비트맵 조회 (공용 user_id=0 + 본인), maxAgeMinutes보다 오래된 건 제외
+    @Query(value = """
+        SELECT to_char(b.month_start, 'YYYY-MM') AS month, b.user_id AS userId, b.day_bits AS dayBits
+        FROM active_day_bitmaps b
+        WHERE b.project_id = :projectId
+          AND b.user_id IN (0, :userId)
+          AND b.month_start BETWEEN CAST(:fromMonth AS date) AND CAST(:toMonth AS date)
+          AND b.computed_at > now() - make_interval(mins => :maxAgeMinutes)
+        """, nativeQuery = true)
+    List<DayBitsRow> findDayBits(
+            @Param("projectId") Long projectId,
+            @Param("userId") Long userId,
+            @Param("fromMonth") LocalDate fromMonth,
+            @Param("toMonth") LocalDate toMonth,
+            @Param("maxAgeMinutes") int maxAgeMinutes
+    );
+
+    /**
+     * 프로젝트 공용 비트맵(이벤트 TODO) 재계산
+     * - TODO가 달린 이벤트가 걸쳐 있는 KST 날짜를 해당 월 범위로 잘라서 비트로 합침
+     * - computed_at이 더 최신인 값은 덮어쓰지 않음 (동시 재계산 시 오래된 스냅샷 결과 무시)
+     */
+    @Modifying
     @Query(value = """
-        (
-          SELECT DISTINCT EXTRACT(DAY FROM gs::date) AS day
+        INSERT INTO active_day_bitmaps (project_id, user_id, month_start, day_bits, computed_at)
+        SELECT :projectId, 0, CAST(:monthStart AS date),
+               COALESCE(BIT_OR(1 << (EXTRACT(DAY FROM d.day)::int - 1)), 0),
+               statement_timestamp()
+        FROM (
+          SELECT DISTINCT gs::date AS day
           FROM events e
-          JOIN event_todos et ON et.event_id = e.id
           CROSS JOIN generate_series(
-              (e.start_at AT TIME ZONE 'UTC' + interval '9 hour'),
-              (e.end_at   AT TIME ZONE 'UTC' + interval '9 hour'),
+              GREATEST((e.start_at + interval '9 hour')::date, CAST(:monthStart AS date)),
+              LEAST((e.end_at + interval '9 hour')::date, CAST(:monthEnd AS date) - 1),
               interval '1 day'
           ) gs
           WHERE e.project_id = :projectId
-            AND gs >= :monthStart
-            AND gs <  :monthEnd
-        )
-        UNION
-        (
-          SELECT DISTINCT EXTRACT(DAY FROM (t.date AT TIME ZONE 'UTC' + interval '9 hour')) AS day
+            AND e.start_at < :utcEnd
+            AND e.end_at >= :utcStart
+            AND EXISTS (SELECT 1 FROM event_todos et WHERE et.event_id = e.id)
+        ) d
+        ON CONFLICT (project_id, user_id, month_start) DO UPDATE
+            SET day_bits = EXCLUDED.day_bits, computed_at = EXCLUDED.computed_at
+            WHERE active_day_bitmaps.computed_at <= EXCLUDED.computed_at
+        """, nativeQuery = true)
+    int refreshSharedDayBits(
+            @Param("projectId") Long projectId,
+            @Param("monthStart") LocalDate monthStart,
+            @Param("monthEnd") LocalDate monthEnd,
+            @Param("utcStart") LocalDateTime utcStart,
+            @Param("utcEnd") LocalDateTime utcEnd
+    );
+
+    // 사용자 개인 TODO 비트맵 재계산
+    @Modifying
+    @Query(value = """
+        INSERT INTO active_day_bitmaps (project_id, user_id, month_start, day_bits, computed_at)
+        SELECT :projectId, :userId, CAST(:monthStart AS date),
+               COALESCE(BIT_OR(1 << (EXTRACT(DAY FROM (t.date + interval '9 hour'))::int - 1)), 0),
+               statement_timestamp()
+        FROM private_todos t
+        WHERE t.project_id = :projectId
+          AND t.owner_id = :userId
+          AND t.date >= :utcStart
+          AND t.date < :utcEnd
+        ON CONFLICT (project_id, user_id, month_start) DO UPDATE
+            SET day_bits = EXCLUDED.day_bits, computed_at = EXCLUDED.computed_at
+            WHERE active_day_bitmaps.computed_at <= EXCLUDED.computed_at
+        """, nativeQuery = true)
+    int refreshPrivateDayBits(
+            @Param("projectId") Long projectId,
+            @Param("userId") Long userId,
+            @Param("monthStart") LocalDate monthStart,
+            @Param("utcStart") LocalDateTime utcStart,
+            @Param("utcEnd") LocalDateTime utcEnd
+    );
+
+    /**
+     * [fromMonth, toMonth] 구간에서 없거나 오래된 월 비트맵(공용 + 본인)을 한 번에 재계산
+     * - generate_series 로 월 x (공용 0, 본인) 대상을 만들고, 신선한 행이 있는 대상은 제외
+     * - 대상 월에 걸친 이벤트 TODO 날짜 / 개인 TODO 날짜를 한 번만 읽어 월별로 BIT_OR
+     * - 날짜가 없는 월도 0으로 저장 (다음 조회에서 다시 계산하지 않도록)
+     */
+    @Modifying
+    @Query(value = """
+        WITH targets AS (
+          SELECT gm::date AS month_start, u.user_id
+          FROM generate_series(CAST(:fromMonth AS date), CAST(:toMonth AS date), interval '1 month') gm
+          CROSS JOIN (SELECT DISTINCT x AS user_id
+                      FROM unnest(ARRAY[CAST(0 AS bigint), CAST(:userId AS bigint)]) x) u
+          WHERE NOT EXISTS (
+            SELECT 1 FROM active_day_bitmaps b
+            WHERE b.project_id = :projectId
+              AND b.user_id = u.user_id
+              AND b.month_start = gm::date
+              AND b.computed_at > now() - make_interval(mins => :maxAgeMinutes)
+          )
+        ),
+        days AS (
+          SELECT CAST(0 AS bigint) AS user_id, gs::date AS day
+          FROM events e
+          CROSS JOIN generate_series(
+              GREATEST((e.start_at + interval '9 hour')::date, CAST(:fromMonth AS date)),
+              LEAST((e.end_at + interval '9 hour')::date, CAST(:rangeEnd AS date) - 1),
+              interval '1 day'
+          ) gs
+          WHERE e.project_id = :projectId
+            AND e.start_at < :utcEnd
+            AND e.end_at >= :utcStart
+            AND EXISTS (SELECT 1 FROM event_todos et WHERE et.event_id = e.id)
+          UNION
+          SELECT t.owner_id, (t.date + interval '9 hour')::date
           FROM private_todos t
           WHERE t.project_id = :projectId
-            AND EXTRACT(YEAR FROM (t.date AT TIME ZONE 'UTC' + interval '9 hour')) = :year
-            AND EXTRACT(MONTH FROM (t.date AT TIME ZONE 'UTC' + interval '9 hour')) = :month
+            AND t.owner_id = :userId
+            AND t.date >= :utcStart
+            AND t.date < :utcEnd
         )
-        ORDER BY day;
+        INSERT INTO active_day_bitmaps (project_id, user_id, month_start, day_bits, computed_at)
+        SELECT :projectId, tg.user_id, tg.month_start,
+               COALESCE(BIT_OR(1 << (EXTRACT(DAY FROM d.day)::int - 1)), 0),
+               statement_timestamp()
+        FROM targets tg
+        LEFT JOIN days d
+          ON d.user_id = tg.user_id
+         AND d.day >= tg.month_start
+         AND d.day < (tg.month_start + interval '1 month')
+        GROUP BY tg.user_id, tg.month_start
+        ON CONFLICT (project_id, user_id, month_start) DO UPDATE
+            SET day_bits = EXCLUDED.day_bits, computed_at = EXCLUDED.computed_at
+            WHERE active_day_bitmaps.computed_at <= EXCLUDED.computed_at
         """, nativeQuery = true)
-    List<Integer> findActiveDaysByProject(
+    int refreshMissingDayBits(
             @Param("projectId") Long projectId,
-            @Param("monthStart") LocalDateTime monthStart,
-            @Param("monthEnd") LocalDateTime monthEnd,
-            @Param("year") int year,
-            @Param("month") int month
+            @Param("userId") Long userId,
+            @Param("fromMonth") LocalDate fromMonth,
+            @Param("toMonth") LocalDate toMonth,
+            @Param("rangeEnd") LocalDate rangeEnd,
+            @Param("utcStart") LocalDateTime utcStart,
+            @Param("utcEnd") LocalDateTime utcEnd,
+            @Param("maxAgeMinutes") int maxAgeMinutes
     );
-}
\ No newline at end of file
+}
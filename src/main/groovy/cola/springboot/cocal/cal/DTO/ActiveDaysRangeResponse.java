@@ -0,0 +1,20 @@
+package cola.springboot.cocal.cal.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ActiveDaysRangeResponse {
+    private List<MonthActiveDays> months;
+
+    @Getter
+    @AllArgsConstructor
+    public static class MonthActiveDays {
+        private int year;
+        private int month;
+        private List<Integer> activeDays;
+    }
+}
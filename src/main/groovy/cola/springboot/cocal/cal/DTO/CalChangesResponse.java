@@ -0,0 +1,31 @@
+package cola.springboot.cocal.cal.DTO;
+
+import cola.springboot.cocal.event.dto.EventResponse;
+import cola.springboot.cocal.memo.DTO.MemoResponse;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CalChangesResponse {
+    private long cursor;          // 다음 요청에 since로 넘길 값
+    private boolean fullResync;   // true면 로컬 데이터를 버리고 이 응답으로 교체
+    private List<EventResponse> events;   // 멤버/링크 포함 전체 스냅샷
+    private List<MemoResponse> memos;
+    private List<CalTodoResponse> todos;
+    private List<DeletedItem> deleted;
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class DeletedItem {
+        private String type;      // EVENT / MEMO / PRIVATE_TODO / EVENT_TODO
+        private Long id;
+        private LocalDateTime deletedAt;
+    }
+}
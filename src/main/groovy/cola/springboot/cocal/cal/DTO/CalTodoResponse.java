@@ -1,5 +1,8 @@
 package cola.springboot.cocal.cal.DTO;
 
+import cola.springboot.cocal.todo.agenda.AgendaItem;
+import cola.springboot.cocal.todo.event_todo.EventTodo;
+import cola.springboot.cocal.todo.private_todo.PrivateTodo;
 import lombok.Builder;
 import lombok.Data;
 
@@ -18,4 +21,48 @@ public class CalTodoResponse {
     private Long projectId; // 소속 프로젝트
     private String status;
     private Integer offsetMinutes;
+
+    public static CalTodoResponse fromPrivateTodo(PrivateTodo todo) {
+        return CalTodoResponse.builder()
+                .id(todo.getId())
+                .type("PRIVATE")
+                .title(todo.getTitle())
+                .description(todo.getDescription())
+                .url(todo.getUrl())
+                .date(todo.getDate())
+                .projectId(todo.getProjectId())
+                .status(todo.getStatus().name())
+                .offsetMinutes(todo.getOffsetMinutes())
+                .build();
+    }
+
+    public static CalTodoResponse fromEventTodo(EventTodo todo) {
+        return CalTodoResponse.builder()
+                .id(todo.getId())
+                .type("EVENT")
+                .title(todo.getTitle())
+                .description(todo.getDescription())
+                .url(todo.getUrl())
+                .eventId(todo.getEvent().getId())          // ManyToOne 매핑 사용
+                .projectId(todo.getEvent().getProject().getId())
+                .status(todo.getStatus().name())
+                .offsetMinutes(todo.getOffsetMinutes())
+                .build();
+    }
+
+    public static CalTodoResponse fromAgendaItem(AgendaItem item) {
+        boolean isPrivate = "PRIVATE".equals(item.getItemType());
+        return CalTodoResponse.builder()
+                .id(item.getTodoId())
+                .type(item.getItemType())
+                .title(item.getTitle())
+                .description(item.getDescription())
+                .url(item.getUrl())
+                .date(isPrivate ? item.getDate() : null) // 이벤트 TODO는 기존처럼 날짜 없이
+                .eventId(item.getEventId())
+                .projectId(item.getProjectId())
+                .status(item.getStatus())
+                .offsetMinutes(item.getOffsetMinutes())
+                .build();
+    }
 }
@@ -0,0 +1,95 @@
+package cola.springboot.cocal.cal;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 프로젝트별 캘린더 변경 버전 (cal_versions 테이블)
+ * - 이벤트/메모/이벤트 멤버 등 캘린더 화면에 보이는 데이터가 바뀔 때마다 증가
+ * - TODO는 별도 버전(프로젝트 단위, 개인 TODO는 사용자 단위)으로 관리
+ * - 쓰기 트랜잭션 안에서 증가시키므로 데이터 변경과 같이 커밋되고, 서버 여러 대가 같은 버전을 봄
+ *   (같은 프로젝트의 쓰기는 버전 행 잠금으로 커밋 순서대로 처리됨)
+ */
+@Component
+public class ProjectVersionTracker {
+    private static final String CAL = "CAL";
+    private static final String TODO = "TODO";
+    private static final String USER_TODO = "USER_TODO";
+
+    private static final String BUMP = """
+        INSERT INTO cal_versions (kind, ref_id, version)
+        VALUES (?, ?, 1)
+        ON CONFLICT (kind, ref_id) DO UPDATE SET version = cal_versions.version + 1
+        """;
+
+    // TODO 조회 ETag 에 들어가는 버전 묶음
+    public record TodoVersions(long calendar, long todos, long userTodos) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProjectVersionTracker(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 현재 버전 조회
+    public long current(Long projectId) {
+        return read(CAL, projectId);
+    }
+
+    // 프로젝트 TODO 버전 조회
+    public long currentTodos(Long projectId) {
+        return read(TODO, projectId);
+    }
+
+    // 사용자 개인 TODO 버전 조회
+    public long currentUserTodos(Long userId) {
+        return read(USER_TODO, userId);
+    }
+
+    // TODO 조회용 버전 3개를 한 번에 조회
+    public TodoVersions currentTodoVersions(Long projectId, Long userId) {
+        long[] v = new long[3];
+        jdbcTemplate.query("""
+                SELECT kind, version FROM cal_versions
+                WHERE (kind = ? AND ref_id = ?) OR (kind = ? AND ref_id = ?) OR (kind = ? AND ref_id = ?)
+                """,
+                rs -> {
+                    switch (rs.getString("kind")) {
+                        case CAL -> v[0] = rs.getLong("version");
+                        case TODO -> v[1] = rs.getLong("version");
+                        default -> v[2] = rs.getLong("version");
+                    }
+                },
+                CAL, projectId, TODO, projectId, USER_TODO, userId);
+        return new TodoVersions(v[0], v[1], v[2]);
+    }
+
+    // 버전 증가 (현재 트랜잭션에 참여)
+    public void bump(Long projectId) {
+        increase(CAL, projectId);
+    }
+
+    // 프로젝트 TODO 버전 증가
+    public void bumpTodos(Long projectId) {
+        increase(TODO, projectId);
+    }
+
+    // 사용자 개인 TODO 버전 증가
+    public void bumpUserTodos(Long userId) {
+        increase(USER_TODO, userId);
+    }
+
+    private long read(String kind, Long id) {
+        if (id == null) return 0L;
+        List<Long> rows = jdbcTemplate.queryForList(
+                "SELECT version FROM cal_versions WHERE kind = ? AND ref_id = ?", Long.class, kind, id);
+        return rows.isEmpty() ? 0L : rows.get(0);
+    }
+
+    private void increase(String kind, Long id) {
+        if (id == null) return;
+        jdbcTemplate.update(BUMP, kind, id);
+    }
+}
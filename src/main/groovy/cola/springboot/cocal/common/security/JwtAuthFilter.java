@@ -29,6 +29,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwt;
     private final TokenBlacklistService tokenBlacklistService;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
@@ -37,8 +38,11 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         jwt.resolveFromAuthorization(auth).ifPresent(token -> {
             try {
-                //  로그아웃된(블랙리스트) 토큰인지 체크
-                if (tokenBlacklistService.isBlacklisted(token)) {
+                // 이미 검증한 토큰이면 캐시에서, 아니면 검증 후 캐시
+                VerifiedTokenCache.Verified verified = verifiedTokenCache.get(token, () -> verify(token));
+
+                //  로그아웃된(블랙리스트) 토큰인지 체크 (jti 기준)
+                if (tokenBlacklistService.isBlacklisted(verified.claims().getId())) {
                     SecurityContextHolder.clearContext();
                     res.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                     res.setContentType("application/json;charset=UTF-8");
@@ -55,22 +59,14 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                 }
 
                 // 정상 토큰 처리
-                Claims c = jwt.getClaims(token); // (검증 포함)
-                Long userId = jwt.getUserId(token);
-
-                @SuppressWarnings("unchecked")
-                List<String> roles = (List<String>) c.get("roles");
-                var authorities = roles == null
-                        ? List.<SimpleGrantedAuthority>of()
-                        : roles.stream()
-                        .map(r -> new SimpleGrantedAuthority("ROLE_" + r))
-                        .toList();
+                Long userId = verified.userId();
 
-                var authToken = new AbstractAuthenticationToken(authorities) {
+                var authToken = new AbstractAuthenticationToken(verified.authorities()) {
                     @Override public Object getCredentials() { return token; }
                     @Override public Object getPrincipal() { return userId; }
                 };
                 authToken.setAuthenticated(true);
+                authToken.setDetails(verified.claims());
 
                 SecurityContextHolder.getContext().setAuthentication(authToken);
                 req.setAttribute("userId", userId);
@@ -84,4 +80,20 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             chain.doFilter(req, res);
         }
     }
+
+    // 서명/만료 검증 + claims 파싱 (요청당 한 번, 캐시 미스 때만)
+    private VerifiedTokenCache.Verified verify(String token) {
+        Claims c = jwt.getClaims(token);
+
+        @SuppressWarnings("unchecked")
+        List<String> roles = (List<String>) c.get("roles");
+        var authorities = roles == null
+                ? List.<SimpleGrantedAuthority>of()
+                : roles.stream()
+                .map(r -> new SimpleGrantedAuthority("ROLE_" + r))
+                .toList();
+
+        long expiresAt = c.getExpiration() != null ? c.getExpiration().getTime() : 0;
+        return new VerifiedTokenCache.Verified(jwt.getUserId(c), authorities, c, expiresAt);
+    }
 }
@@ -5,6 +5,9 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Component
 @Getter
 @Setter
@@ -17,4 +20,8 @@ public class JwtTokenProperties {
     private int accessTtlMinutes = 20;
     private int clockSkewSeconds = 30;
     private String secretBase64;
+    // 현재 서명 키 ID (토큰 헤더 kid). 비어 있으면 kid 없이 발급
+    private String keyId;
+    // 키 교체 후에도 기존 토큰을 검증할 이전 키들: kid → base64 secret
+    private Map<String, String> previousSecrets = new HashMap<>();
 }
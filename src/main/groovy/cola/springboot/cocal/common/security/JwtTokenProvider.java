@@ -3,9 +3,9 @@ package cola.springboot.cocal.common.security;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
 import java.security.Key;
 import java.security.MessageDigest;
 import java.security.SecureRandom;
@@ -16,17 +16,56 @@ import java.util.*;
 import org.springframework.data.util.Pair;
 
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
     private final JwtTokenProperties props;
+    // 서명 키 (시작 시 한 번만 만듦)
+    private final SecretKey signingKey;
+    // 검증 키: kid → key (현재 키 + 교체 전 키들)
+    private final Map<String, SecretKey> verificationKeys;
+    // 파서는 thread-safe 라 하나를 재사용
+    private final JwtParser parser;
+
+    public JwtTokenProvider(JwtTokenProperties props) {
+        this.props = props;
+        this.signingKey = hmacKey(props.getSecretBase64());
+
+        Map<String, SecretKey> keys = new HashMap<>();
+        props.getPreviousSecrets().forEach((kid, secret) -> keys.put(kid, hmacKey(secret)));
+        if (props.getKeyId() != null && !props.getKeyId().isBlank()) {
+            keys.put(props.getKeyId(), signingKey);
+        }
+        this.verificationKeys = Map.copyOf(keys);
+
+        this.parser = Jwts.parser()
+                .requireAudience(props.getAudience())
+                .requireIssuer(props.getIssuer())
+                .clockSkewSeconds(props.getClockSkewSeconds())
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return verificationKey(header.getKeyId());
+                    }
+                })
+                .build();
+    }
 
     // 키 생성 메서드
-    private Key signingKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(props.getSecretBase64());
+    private static SecretKey hmacKey(String secretBase64) {
+        byte[] keyBytes = Decoders.BASE64.decode(secretBase64);
         return Keys.hmacShaKeyFor(keyBytes);
     }
 
+    // kid 가 없는 토큰(키 교체 기능 이전 발급분)은 현재 키로 검증
+    private Key verificationKey(String kid) {
+        if (kid == null) return signingKey;
+        SecretKey key = verificationKeys.get(kid);
+        if (key == null) {
+            throw new UnsupportedJwtException("알 수 없는 kid: " + kid);
+        }
+        return key;
+    }
+
     // AccessToken 생성
     public String createAccessToken(Long userId, String email, Collection<String> roles) {
         Instant now = Instant.now();
@@ -40,8 +79,12 @@ public class JwtTokenProvider {
             claims.put("roles", roles);
         }
 
-        return Jwts.builder()
-                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)   // typ: JWT
+        JwtBuilder builder = Jwts.builder()
+                .setHeaderParam(Header.TYPE, Header.JWT_TYPE);  // typ: JWT
+        if (props.getKeyId() != null && !props.getKeyId().isBlank()) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, props.getKeyId()); // kid: 서명 키 ID (키 교체용)
+        }
+        return builder
                 .setIssuer(props.getIssuer())                   // iss: 발급자
                 .setAudience(props.getAudience())               // aud: 대상자
                 .setSubject(String.valueOf(userId))             // sub: userId
@@ -50,7 +93,7 @@ public class JwtTokenProvider {
                 .setNotBefore(Date.from(now))                   // nbf:이 전에는 유효X
                 .setExpiration(Date.from(exp))                  // exp: 만료시간
                 .addClaims(claims)                              // 커스텀 클레임
-                .signWith(signingKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -92,13 +135,7 @@ public class JwtTokenProvider {
 
     // 토큰 파싱(검증포함). 유효하지 않으면 JwtException 예외발생
     public Jws<Claims> parseAndValidate(String token) throws JwtException {
-        return Jwts.parser()
-                .requireAudience(props.getAudience())
-                .requireIssuer(props.getIssuer())
-                .setAllowedClockSkewSeconds(props.getClockSkewSeconds())
-                .setSigningKey(signingKey())
-                .build()
-                .parseClaimsJws(token);
+        return parser.parseSignedClaims(token);
     }
 
     // 유효성 검사 결과만 boolean으로 보고 싶을 때 사용.
@@ -136,7 +173,11 @@ public class JwtTokenProvider {
 
     // subject(userId) 가져오기
     public Long getUserId(String token) throws JwtException {
-        Claims c = getClaims(token);
+        return getUserId(getClaims(token));
+    }
+
+    // 이미 검증된 Claims 에서 userId (다시 파싱하지 않음)
+    public Long getUserId(Claims c) {
         // 우선 uid(숫자) → 없으면 subject(문자열) 사용
         Object uid = c.get("uid");
         if (uid instanceof Number n) return n.longValue();
@@ -0,0 +1,112 @@
+package cola.springboot.cocal.common.security;
+
+import cola.springboot.cocal.auth.TokenBlacklistService;
+import cola.springboot.cocal.config.WebSocketConfig;
+import cola.springboot.cocal.projectMember.ProjectMember;
+import cola.springboot.cocal.projectMember.ProjectMemberRepository;
+import cola.springboot.cocal.realtime.ProjectChangePublisher;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * STOMP 인증/권한
+ * - CONNECT: Authorization 헤더(Bearer)의 액세스 토큰 검증 후 세션 사용자로 등록
+ * - 그 외 프레임: 인증된 세션만 (DISCONNECT 는 세션 정리용이라 통과)
+ * - SUBSCRIBE: /topic/projects/{projectId} 는 해당 프로젝트 ACTIVE 멤버만
+ * - SEND: /app/** 만 허용 (클라이언트가 /topic/** 으로 직접 보내 다른 구독자에게 가짜 변경을 뿌리지 못하도록)
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+    private final JwtTokenProvider jwt;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final ProjectMemberRepository projectMemberRepository;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) return message;
+
+        StompCommand command = accessor.getCommand();
+        if (StompCommand.CONNECT.equals(command) || StompCommand.STOMP.equals(command)) {
+            accessor.setUser(authenticate(accessor.getFirstNativeHeader("Authorization")));
+            return message;
+        }
+        // 연결 종료 시 브로커가 구독을 정리해야 하므로 DISCONNECT 는 막지 않음
+        if (StompCommand.DISCONNECT.equals(command)) {
+            return message;
+        }
+
+        if (accessor.getUser() == null) {
+            throw new MessagingException("인증되지 않은 연결입니다.");
+        }
+        if (StompCommand.SUBSCRIBE.equals(command)) {
+            checkSubscription(accessor);
+        } else if (StompCommand.SEND.equals(command)) {
+            checkSend(accessor);
+        }
+        return message;
+    }
+
+    private Authentication authenticate(String authorization) {
+        String token = jwt.resolveFromAuthorization(authorization)
+                .orElseThrow(() -> new MessagingException("토큰이 없습니다."));
+        Claims claims;
+        try {
+            claims = jwt.getClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new MessagingException("유효하지 않은 토큰입니다.");
+        }
+        if (tokenBlacklistService.isBlacklisted(claims.getId())) {
+            throw new MessagingException("유효하지 않은 토큰입니다.");
+        }
+        Long userId = jwt.getUserId(claims);
+
+        var authToken = new AbstractAuthenticationToken(List.of()) {
+            @Override public Object getCredentials() { return token; }
+            @Override public Object getPrincipal() { return userId; }
+        };
+        authToken.setAuthenticated(true);
+        return authToken;
+    }
+
+    private void checkSend(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(WebSocketConfig.APP_PREFIX + "/")) {
+            throw new MessagingException("전송할 수 없는 경로입니다.");
+        }
+    }
+
+    private void checkSubscription(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(ProjectChangePublisher.TOPIC_PREFIX)) {
+            throw new MessagingException("구독할 수 없는 경로입니다.");
+        }
+
+        Long projectId;
+        try {
+            projectId = Long.parseLong(destination.substring(ProjectChangePublisher.TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new MessagingException("구독할 수 없는 경로입니다.");
+        }
+        Long userId = Long.parseLong(accessor.getUser().getName());
+        boolean isMember = projectMemberRepository.existsByProjectIdAndUserIdAndStatus(
+                projectId, userId, ProjectMember.MemberStatus.ACTIVE);
+        if (!isMember) {
+            throw new MessagingException("프로젝트 멤버만 구독할 수 있습니다.");
+        }
+    }
+}
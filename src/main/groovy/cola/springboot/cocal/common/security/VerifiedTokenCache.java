@@ -0,0 +1,75 @@
+package cola.springboot.cocal.common.security;
+
+import cola.springboot.cocal.common.util.LruTtlCache;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 검증이 끝난 액세스 토큰 캐시 (요청마다 서명 검증/claims 파싱을 반복하지 않도록)
+ * - 키는 토큰 원문이 아니라 SHA-256 digest (메모리에 토큰을 그대로 들고 있지 않음)
+ * - 토큰 만료(exp)까지만 유지, 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거(LRU)
+ * - 블랙리스트는 여기서 보지 않음: JwtAuthFilter 가 캐시 조회 후 매 요청 캐시된 claims 의 jti 로 확인하므로
+ *   캐시에 남아 있는 토큰도 로그아웃 즉시 막힘. 블랙리스트에 넣을 때 캐시에서도 지움
+ */
+@Component
+public class VerifiedTokenCache {
+
+    // 검증된 토큰에서 필요한 것만
+    public record Verified(Long userId, List<SimpleGrantedAuthority> authorities, Claims claims, long expiresAtMillis) {}
+
+    // 항목마다 exp 를 만료 시각으로 직접 넣으므로 기본 TTL 은 쓰지 않음
+    private final LruTtlCache<ByteBuffer, Verified> cache;
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${app.jwt.verified-cache.max-size:10000}") int maxSize) {
+        this(maxSize, System::currentTimeMillis);
+    }
+
+    VerifiedTokenCache(int maxSize, LongSupplier clock) {
+        this.cache = new LruTtlCache<>(maxSize, Long.MAX_VALUE, clock);
+    }
+
+    // 캐시에 있고 아직 만료 전이면 반환, 아니면 verifier 로 검증해서 저장 후 반환 (검증 실패 시 예외 그대로)
+    public Verified get(String token, Supplier<Verified> verifier) {
+        ByteBuffer key = digest(token);
+        Verified cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 서명 검증은 락 밖에서 수행, 이미 만료된 토큰은 저장하지 않음
+        Verified verified = verifier.get();
+        cache.put(key, verified, verified.expiresAtMillis());
+        return verified;
+    }
+
+    // 로그아웃 등으로 무효화된 토큰 제거
+    public void evict(String token) {
+        cache.remove(digest(token));
+    }
+
+    public LruTtlCache.Stats stats() {
+        return cache.stats();
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            // ByteBuffer 는 내용 기준 equals/hashCode 라 그대로 맵 키로 사용
+            return ByteBuffer.wrap(md.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package cola.springboot.cocal.common.util;
+
+public final class ETagUtils {
+    private ETagUtils() {}
+
+    // 값들을 '-'로 이어 붙인 strong ETag 생성 (예: "cal-1-abc-3")
+    public static String strong(Object... parts) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) sb.append('-');
+            sb.append(parts[i]);
+        }
+        return sb.append('"').toString();
+    }
+
+    // If-None-Match 헤더가 etag와 일치하는지 확인 (목록, *, W/ 접두사 허용)
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || etag == null) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) return true;
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals(etag)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,28 @@
+package cola.springboot.cocal.common.util;
+
+import cola.springboot.cocal.common.exception.BusinessException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// (시각, id) 키셋 페이지네이션 커서: base64url("시각|id")
+// 이벤트 목록(startAt), 알림함(sentAt) 등에서 공용으로 사용
+public record KeysetCursor(LocalDateTime at, Long id) {
+
+    public String encode() {
+        String raw = at + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException(HttpStatus.BAD_REQUEST, "INVALID_CURSOR", "유효하지 않은 cursor입니다.");
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package cola.springboot.cocal.common.util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 최대 크기 + TTL 이 있는 인메모리 LRU 캐시 (CalItemCache, VerifiedTokenCache 등이 공통으로 사용)
+ * - 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거(LRU)
+ * - 항목마다 만료 시각을 가지고, 만료된 항목은 조회 시 제거
+ * - 락 하나(synchronized)로 보호하고, loader(DB 조회, 서명 검증 등)는 락 밖에서 실행
+ *   → 같은 키가 동시에 미스 나면 loader 가 여러 번 돌 수 있음 (결과는 마지막 것이 남음)
+ */
+public final class LruTtlCache<K, V> {
+
+    public record Stats(long hits, long misses, long evictions, int size) {}
+
+    private record Entry<V>(V value, long expiresAtMillis) {}
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Map<K, Entry<V>> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public LruTtlCache(int maxSize, long ttlMillis) {
+        this(maxSize, ttlMillis, System::currentTimeMillis);
+    }
+
+    // clock 은 테스트에서 시간을 움직이기 위한 것
+    public LruTtlCache(int maxSize, long ttlMillis, LongSupplier clock) {
+        if (maxSize <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("maxSize, ttlMillis 는 0보다 커야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        // accessOrder=true → 조회할 때마다 뒤로 이동 (LRU)
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > LruTtlCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    // 만료 전이면 반환, 없거나 만료됐으면 null (만료된 항목은 제거)
+    public V getIfPresent(K key) {
+        long now = clock.getAsLong();
+        synchronized (entries) {
+            Entry<V> cached = entries.get(key);
+            if (cached != null) {
+                if (now < cached.expiresAtMillis()) {
+                    hits.incrementAndGet();
+                    return cached.value();
+                }
+                entries.remove(key);
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    // 캐시에 있으면 반환, 없으면 loader 로 만들어서 저장 후 반환
+    // 만료는 loader 를 부르기 전 시각 기준 (loader 가 오래 걸린 만큼 일찍 만료되는 쪽으로)
+    public V get(K key, Supplier<V> loader) {
+        long now = clock.getAsLong();
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        V loaded = loader.get();
+        put(key, loaded, expiresAt(now));
+        return loaded;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, expiresAt(clock.getAsLong()));
+    }
+
+    // 만료 시각을 직접 지정 (토큰 exp 처럼 값마다 다를 때). 이미 지났으면 저장하지 않음
+    public void put(K key, V value, long expiresAtMillis) {
+        if (clock.getAsLong() >= expiresAtMillis) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, expiresAtMillis));
+        }
+    }
+
+    // 있으면 값만 바꾸고 만료 시각은 유지, 없으면 아무것도 안 함 (hit/miss 로 세지 않음)
+    public void computeIfPresent(K key, UnaryOperator<V> remapping) {
+        synchronized (entries) {
+            entries.computeIfPresent(key, (k, e) -> new Entry<>(remapping.apply(e.value()), e.expiresAtMillis()));
+        }
+    }
+
+    public void remove(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    // 전체 순회 (자주 부르지 않는 용도)
+    public void removeIf(Predicate<V> predicate) {
+        synchronized (entries) {
+            entries.values().removeIf(e -> predicate.test(e.value()));
+        }
+    }
+
+    public Stats stats() {
+        synchronized (entries) {
+            return new Stats(hits.get(), misses.get(), evictions.get(), entries.size());
+        }
+    }
+
+    // Micrometer 캐시 지표 이름(cache.gets / cache.evictions / cache.size)으로 등록, cache 태그로 구분
+    public void bindTo(MeterRegistry registry, String cacheName) {
+        FunctionCounter.builder("cache.gets", hits, AtomicLong::get)
+                .tag("cache", cacheName).tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, AtomicLong::get)
+                .tag("cache", cacheName).tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, AtomicLong::get)
+                .tag("cache", cacheName)
+                .register(registry);
+        Gauge.builder("cache.size", this, c -> c.stats().size())
+                .tag("cache", cacheName)
+                .register(registry);
+    }
+
+    private long expiresAt(long now) {
+        // ttl 을 크게 잡아도 overflow 되지 않게
+        return ttlMillis > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + ttlMillis;
+    }
+}
@@ -0,0 +1,22 @@
+package cola.springboot.cocal.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionUtils {
+    private TransactionUtils() {}
+
+    // 현재 트랜잭션이 커밋된 뒤 실행 (트랜잭션 밖에서 호출되면 즉시 실행)
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package cola.springboot.cocal.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 작업 활성화 (테스트에서는 app.scheduling.enabled=false 로 끔)
+ * - 기본 스케줄러(taskScheduler): spring.task.scheduling.pool.size 만큼 스레드 (Boot 기본은 1개라 모든 작업이 한 줄로 섬)
+ * - 알림 휠 전용 스케줄러(reminderScheduler): ReminderService.tick(1초) / flushTimeChanges(500ms) 만 사용
+ *   → purge, retention 같은 오래 걸리는 작업이 돌아도 알림 발송이 밀리지 않게
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+
+    public static final String REMINDER_SCHEDULER = "reminderScheduler";
+
+    // TaskScheduler 빈을 직접 만들면 Boot 자동 설정이 빠지므로, 기본 스케줄러도 같은 설정(spring.task.scheduling.*)으로 만듦
+    // @Scheduled 에 scheduler 를 지정하지 않으면 이름이 taskScheduler 인 빈을 사용
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    // tick 과 flushTimeChanges 가 서로 기다리지 않게 2개
+    @Bean(name = REMINDER_SCHEDULER)
+    public ThreadPoolTaskScheduler reminderScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("reminder-wheel-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        return scheduler;
+    }
+}
@@ -8,6 +8,7 @@ import cola.springboot.cocal.common.security.OAuth2SuccessHandler;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import cola.springboot.cocal.user.CustomOAuth2UserService;
+import cola.springboot.cocal.user.User;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -60,12 +61,17 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/**").permitAll()
                         // 헬스체크/버전
                         .requestMatchers(HttpMethod.GET, "/health", "/version").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        // 운영 지표는 관리자만 (JwtAuthFilter 가 역할 앞에 ROLE_ 을 붙이므로 ROLE_ROLE_ADMIN)
+                        .requestMatchers("/actuator/**").hasAuthority("ROLE_" + User.Role.ROLE_ADMIN.name())
                         // 회원가입(예: POST /api/users)
                         .requestMatchers(HttpMethod.POST, "/api/users").permitAll()
                         // OAuth2 로그인 진입/콜백 URL (소셜 로그인 필수 공개)
                         .requestMatchers("/oauth2/**", "/login/oauth2/**").permitAll()
                         // SSE는 인증 없이 접근 가능 
                         .requestMatchers("/api/notifications/subscribe").permitAll()
+                        // STOMP(WebSocket) 은 CONNECT 프레임에서 토큰 검증
+                        .requestMatchers("/ws/**").permitAll()
                         // swagger
                         .requestMatchers(
                                 "/swagger-ui.html",
@@ -0,0 +1,42 @@
+package cola.springboot.cocal.config;
+
+import cola.springboot.cocal.common.security.StompAuthChannelInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+// STOMP 실시간 채널: /ws 로 연결, /topic/projects/{projectId} 구독
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    // 서버 → 클라이언트 브로커 경로 (클라이언트 SEND 불가)
+    public static final String BROKER_PREFIX = "/topic";
+    // 클라이언트 → 서버 애플리케이션 경로
+    public static final String APP_PREFIX = "/app";
+
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws")
+                .setAllowedOrigins("https://cocal-front.vercel.app",
+                        "http://localhost:3000", "http://localhost:3001"); // SecurityConfig CORS 와 동일
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker(BROKER_PREFIX);
+        registry.setApplicationDestinationPrefixes(APP_PREFIX);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // CONNECT 시 JWT 인증, 그 외 프레임은 인증된 세션만, SUBSCRIBE 시 프로젝트 멤버 확인, 브로커 경로 SEND 차단
+        registration.interceptors(stompAuthChannelInterceptor);
+    }
+}
@@ -10,6 +10,7 @@ import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
 @Table(name = "events", indexes = {
@@ -63,6 +64,14 @@ public class Event {
     @Column(length = 7, nullable = false)
     private String color = "#0B3559";
 
+    // 알림 시각 (startAt - offsetMinutes), 저장 시 자동 계산
+    @Column(name = "remind_at")
+    private LocalDateTime remindAt;
+
+    // 알림 발송 여부 (알림 시각이 바뀌면 다시 false)
+    @Column(name = "reminder_sent", nullable = false)
+    private boolean reminderSent = false;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -79,6 +88,15 @@ public class Event {
         if (endAt != null && startAt != null && endAt.isBefore(startAt)) {
             throw new IllegalArgumentException("endAt must be after startAt");
         }
+        syncRemindAt();
+    }
+
+    private void syncRemindAt() {
+        LocalDateTime next = startAt != null ? startAt.minusMinutes(offsetMinutes) : null;
+        if (!Objects.equals(next, remindAt)) {
+            remindAt = next;
+            reminderSent = false;
+        }
     }
 
     public enum Visibility {
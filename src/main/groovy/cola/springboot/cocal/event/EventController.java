@@ -4,6 +4,7 @@ import cola.springboot.cocal.common.api.ApiResponse;
 import cola.springboot.cocal.common.exception.BusinessException;
 import cola.springboot.cocal.event.dto.EventCreateRequest;
 import cola.springboot.cocal.event.dto.EventCreateResponse;
+import cola.springboot.cocal.event.dto.EventPageResponse;
 import cola.springboot.cocal.event.dto.EventResponse;
 import cola.springboot.cocal.user.User;
 import cola.springboot.cocal.user.UserRepository;
@@ -45,6 +46,20 @@ public class EventController {
         return ResponseEntity.ok(ApiResponse.ok(data, httpReq.getRequestURI()));
     }
 
+    // 이벤트 목록 조회 (cursor 기반 페이지네이션)
+    @GetMapping()
+    public ResponseEntity<ApiResponse<EventPageResponse>> getEvents(
+            @PathVariable("projectId") Long projectId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "50") int size,
+            Authentication authentication,
+            HttpServletRequest httpReq
+    ) {
+        Long userId = Long.parseLong(authentication.getName());
+        EventPageResponse data = eventService.getEventPage(projectId, userId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.ok(data, httpReq.getRequestURI()));
+    }
+
     // 이벤트(개별) 조회
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<EventResponse>> getEvent(
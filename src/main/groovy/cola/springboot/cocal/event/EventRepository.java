@@ -1,13 +1,19 @@
 package cola.springboot.cocal.event;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
@@ -16,28 +22,113 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     @Query("SELECT e FROM Event e WHERE e.project.id = :projectId")
     List<Event> findAllByProjectId(@Param("projectId") Long projectId);
 
+    // 특정 프로젝트에서 [start, end) 구간과 겹치는 이벤트 조회 (idx_ev_project_time 사용)
+    // 반열린 구간끼리 비교: 구간 시작 시각에 딱 끝나는 이벤트는 겹치지 않음 (end_at > start_at 이라 0 길이 이벤트는 없음)
+    @Query("""
+        SELECT e FROM Event e
+        WHERE e.project.id = :projectId
+          AND e.startAt < :end
+          AND e.endAt > :start
+        ORDER BY e.startAt ASC, e.id ASC
+    """)
+    List<Event> findAllByProjectIdInRange(@Param("projectId") Long projectId,
+                                          @Param("start") LocalDateTime start,
+                                          @Param("end") LocalDateTime end);
+
+    // 키셋 페이지 첫 페이지 (start_at, id 순)
+    @Query("""
+        SELECT e FROM Event e
+        WHERE e.project.id = :projectId
+        ORDER BY e.startAt ASC, e.id ASC
+    """)
+    List<Event> findPageByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    // 키셋 페이지 다음 페이지: (startAt, id) 이후 (idx_ev_project_start_id 사용)
+    @Query("""
+        SELECT e FROM Event e
+        WHERE e.project.id = :projectId
+          AND e.startAt >= :startAt
+          AND (e.startAt > :startAt OR e.id > :id)
+        ORDER BY e.startAt ASC, e.id ASC
+    """)
+    List<Event> findPageByProjectIdAfter(@Param("projectId") Long projectId,
+                                         @Param("startAt") LocalDateTime startAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    // 특정 프로젝트에서 since 이후 생성/수정된 이벤트 조회 (idx_ev_project_updated 사용)
+    @Query("""
+        SELECT e FROM Event e
+        WHERE e.project.id = :projectId
+          AND e.updatedAt > :since
+        ORDER BY e.updatedAt ASC, e.id ASC
+    """)
+    List<Event> findAllByProjectIdUpdatedAfter(@Param("projectId") Long projectId,
+                                               @Param("since") LocalDateTime since);
+
+    // 이벤트 updated_at만 갱신 (멤버 변경 등 이벤트 행 자체는 안 바뀌는 변경을 동기화에 반영)
+    @Modifying
+    @Query("UPDATE Event e SET e.updatedAt = :now WHERE e.id = :id")
+    int touchUpdatedAt(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 스트리밍 응답용: 프로젝트 이벤트를 커서로 읽음 (트랜잭션 안에서 사용 후 닫아야 함)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT e FROM Event e
+        WHERE e.project.id = :projectId
+        ORDER BY e.startAt ASC, e.id ASC
+    """)
+    Stream<Event> streamAllByProjectId(@Param("projectId") Long projectId);
+
+    // 스트리밍 응답용: [start, end) 구간과 겹치는 이벤트
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT e FROM Event e
+        WHERE e.project.id = :projectId
+          AND e.startAt < :end
+          AND e.endAt > :start
+        ORDER BY e.startAt ASC, e.id ASC
+    """)
+    Stream<Event> streamAllByProjectIdInRange(@Param("projectId") Long projectId,
+                                              @Param("start") LocalDateTime start,
+                                              @Param("end") LocalDateTime end);
+
     Optional<Event> findById(Long id);
 
-    /**
-     * 현재 시각(now)을 기준으로 offsetMinutes 만큼 남은 이벤트를 조회
-     *
-     * 조건:
-     * 1. 이벤트 시작 시간(start_at)이 현재 시각부터 1시간 이내인 이벤트
-     * 2. 이벤트 시작 시간 - 현재 시각을 분 단위로 계산했을 때
-     *    offsetMinutes 이하이면서 offsetMinutes - 1 초과인 이벤트
-     *    (즉, offsetMinutes 분 남은 시점에 알림을 보내기 위함)
-     *
-     * @param now 조회 기준 시각
-     * @return offset 기준으로 곧 시작할 이벤트 리스트
-     */
-    @Query(value = """
-    SELECT *
-    FROM events e
-    WHERE e.start_at BETWEEN CAST(:now AS timestamp) AND (CAST(:now AS timestamp) + INTERVAL '1 hour')
-      AND EXTRACT(EPOCH FROM (e.start_at - CAST(:now AS timestamp))) / 60 <= e.offset_minutes
-      AND EXTRACT(EPOCH FROM (e.start_at - CAST(:now AS timestamp))) / 60 > e.offset_minutes - 1
-    """, nativeQuery = true)
-    List<Event> findEventsStartingAfterOffset(@Param("now") LocalDateTime now);
+    // 이벤트가 속한 프로젝트 ID만 조회
+    @Query("SELECT e.project.id FROM Event e WHERE e.id = :id")
+    Long findProjectIdById(@Param("id") Long id);
+
+    // 알림 휠 refill 용: 알림 시각이 [from, to) 이고 아직 발송 안 된 이벤트 (idx_ev_remind_unsent)
+    @Query("""
+        SELECT e FROM Event e
+        JOIN FETCH e.project
+        WHERE e.reminderSent = false
+          AND e.remindAt >= :from
+          AND e.remindAt < :to
+    """)
+    List<Event> findUnsentRemindersBetween(@Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to);
+
+    // 알림 발송용: 여러 이벤트를 프로젝트와 함께 조회
+    @Query("SELECT e FROM Event e JOIN FETCH e.project WHERE e.id IN :ids")
+    List<Event> findAllWithProjectByIdIn(@Param("ids") List<Long> ids);
+
+    // 알림 발송 선점: 알림 시각이 지났고 아직 발송 안 된 경우에만 true 로 바꿈 (서버 여러 대 중복 방지)
+    @Modifying
+    @Query("""
+        UPDATE Event e SET e.reminderSent = true
+        WHERE e.id = :id
+          AND e.reminderSent = false
+          AND e.remindAt <= :now
+    """)
+    int claimReminder(@Param("id") Long id, @Param("now") LocalDateTime now);
 
     @Query("""
         SELECT e FROM Event e
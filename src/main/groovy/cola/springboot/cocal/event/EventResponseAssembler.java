@@ -0,0 +1,51 @@
+package cola.springboot.cocal.event;
+
+import cola.springboot.cocal.event.dto.EventResponse;
+import cola.springboot.cocal.eventLink.EventLinkRepository;
+import cola.springboot.cocal.eventLink.LinkItem;
+import cola.springboot.cocal.eventMember.EventMember;
+import cola.springboot.cocal.eventMember.EventMemberRepository;
+import cola.springboot.cocal.user.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 이벤트 목록 → EventResponse 변환 (멤버/링크는 이벤트 ID로 한 번에 조회)
+@Component
+@RequiredArgsConstructor
+public class EventResponseAssembler {
+    private final EventMemberRepository eventMemberRepository;
+    private final EventLinkRepository eventLinkRepository;
+
+    public List<EventResponse> toResponses(List<Event> events) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+
+        // 이벤트 ID 목록 추출
+        List<Long> eventIds = events.stream().map(Event::getId).toList();
+
+        // eventId 기준으로 그룹핑 (메모리상 매핑)
+        Map<Long, List<User>> memberMap = eventMemberRepository.findAllByEventIds(eventIds).stream()
+                .collect(Collectors.groupingBy(
+                        em -> em.getEvent().getId(),
+                        Collectors.mapping(EventMember::getUser, Collectors.toList())
+                ));
+        Map<Long, List<LinkItem>> linkMap = eventLinkRepository.findAllByEventIds(eventIds).stream()
+                .collect(Collectors.groupingBy(
+                        el -> el.getEvent().getId(),
+                        Collectors.mapping(LinkItem::fromEntity, Collectors.toList())
+                ));
+
+        return events.stream()
+                .map(event -> EventResponse.fromEntity(
+                        event,
+                        memberMap.getOrDefault(event.getId(), List.of()),
+                        linkMap.getOrDefault(event.getId(), List.of())
+                ))
+                .toList();
+    }
+}
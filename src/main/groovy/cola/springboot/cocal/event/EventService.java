@@ -1,8 +1,15 @@
 package cola.springboot.cocal.event;
 
+import cola.springboot.cocal.cal.ActiveDaysService;
+import cola.springboot.cocal.cal.CalTombstone;
+import cola.springboot.cocal.cal.CalTombstoneRepository;
+import cola.springboot.cocal.cal.ProjectVersionTracker;
 import cola.springboot.cocal.common.exception.BusinessException;
+import cola.springboot.cocal.common.util.KeysetCursor;
+import cola.springboot.cocal.common.util.TransactionUtils;
 import cola.springboot.cocal.event.dto.EventCreateRequest;
 import cola.springboot.cocal.event.dto.EventCreateResponse;
+import cola.springboot.cocal.event.dto.EventPageResponse;
 import cola.springboot.cocal.event.dto.EventResponse;
 import cola.springboot.cocal.eventLink.EventLink;
 import cola.springboot.cocal.eventLink.EventLinkRepository;
@@ -14,9 +21,14 @@ import cola.springboot.cocal.project.Project;
 import cola.springboot.cocal.project.ProjectRepository;
 import cola.springboot.cocal.projectMember.ProjectMember;
 import cola.springboot.cocal.projectMember.ProjectMemberRepository;
+import cola.springboot.cocal.realtime.ProjectChangePublisher;
+import cola.springboot.cocal.todo.agenda.AgendaItemRepository;
+import cola.springboot.cocal.todo.event_todo.EventTodoRepository;
 import cola.springboot.cocal.user.User;
 import cola.springboot.cocal.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,6 +48,16 @@ public class EventService {
     private final ProjectMemberRepository projectMemberRepository;
     private final EventMemberRepository eventMemberRepository;
     private final ReminderService eventReminderService;
+    private final ProjectVersionTracker projectVersionTracker;
+    private final EventTodoRepository eventTodoRepository;
+    private final CalTombstoneRepository calTombstoneRepository;
+    private final ActiveDaysService activeDaysService;
+    private final EventResponseAssembler eventResponseAssembler;
+    private final ProjectChangePublisher projectChangePublisher;
+    private final AgendaItemRepository agendaItemRepository;
+
+    // 이벤트 목록 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 200;
 
     // event(일정) 생성
     @Transactional
@@ -90,6 +112,10 @@ public class EventService {
 
         event = eventRepository.save(event);
 
+        // 알림 예약 (커밋 후)
+        Event saved = event;
+        TransactionUtils.afterCommit(() -> eventReminderService.scheduleEvent(saved));
+
         // URL 처리
         List<String> urls = Optional.ofNullable(request.getUrls()).orElseGet(List::of).stream()
                 .map(s -> s == null ? "" : s.trim())
@@ -166,6 +192,10 @@ public class EventService {
                 .map(em -> em.getUser().getId())
                 .toList();
 
+        // 캘린더 캐시 무효화 + 실시간 전송
+        projectVersionTracker.bump(projectId);
+        projectChangePublisher.publishAfterCommit(projectId, "EVENT", "CREATED", event.getId(), userId);
+
         return EventCreateResponse.builder()
                 .id(event.getId())
                 .projectId(project.getId())
@@ -227,6 +257,47 @@ public class EventService {
         return EventResponse.fromEntity(event, eventMembers, linkItems);
     }
 
+    // 이벤트 목록 (키셋 페이지네이션, start_at → id 순)
+    @Transactional(readOnly = true)
+    public EventPageResponse getEventPage(Long projectId, Long userId, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(HttpStatus.BAD_REQUEST, "INVALID_PAGE_SIZE",
+                    "size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        // 프로젝트 멤버 여부 확인 (OWNER 또는 MEMBER 상태가 ACTIVE)
+        boolean isMember = projectMemberRepository.existsByProjectIdAndUserIdAndStatus(projectId, userId, ProjectMember.MemberStatus.ACTIVE);
+        if (!isMember) {
+            throw new BusinessException(
+                    HttpStatus.FORBIDDEN, "FORBIDDEN", "프로젝트 멤버만 이벤트를 조회할 수 있습니다."
+            );
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Event> events;
+        if (cursor == null || cursor.isBlank()) {
+            events = eventRepository.findPageByProjectId(projectId, limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            events = eventRepository.findPageByProjectIdAfter(projectId, after.at(), after.id(), limit);
+        }
+
+        boolean hasNext = events.size() > size;
+        List<Event> page = hasNext ? events.subList(0, size) : events;
+        String nextCursor = null;
+        if (hasNext) {
+            Event last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getStartAt(), last.getId()).encode();
+        }
+
+        return EventPageResponse.builder()
+                .items(eventResponseAssembler.toResponses(page))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
     // 이벤트 수정
     @Transactional
     public EventResponse updateEvent(Long id, Long projectId, EventCreateRequest request, Long userId) {
@@ -309,6 +380,17 @@ public class EventService {
         boolean isTimeChanged = !event.getStartAt().equals(startAt)
                 || event.getOffsetMinutes() != request.getOffsetMinutes();
 
+        // 기간이 바뀌면 이전/새 기간의 active-days 재계산
+        if (!event.getStartAt().equals(startAt) || !event.getEndAt().equals(endAt)) {
+            activeDaysService.refreshSharedAfterCommit(projectId, event.getStartAt(), event.getEndAt());
+            activeDaysService.refreshSharedAfterCommit(projectId, startAt, endAt);
+        }
+
+        // 시작 시각이 바뀌면 TODO 프로젝션 날짜도 반영
+        if (!event.getStartAt().equals(startAt)) {
+            agendaItemRepository.updateEventDate(event.getId(), startAt);
+        }
+
         // 이벤트 정보 업데이트
         event.setTitle(request.getTitle());
         event.setDescription(request.getDescription());
@@ -361,6 +443,10 @@ public class EventService {
                         .toList()
         );
 
+        // 캘린더 캐시 무효화 + 실시간 전송
+        projectVersionTracker.bump(projectId);
+        projectChangePublisher.publishAfterCommit(projectId, "EVENT", "UPDATED", id, userId);
+
         // 이벤트 참가자 조회
         List<User> eventMembers = eventMemberRepository.findUsersByEventId(id);
         return EventResponse.fromEntity(event, eventMembers, linkItems);
@@ -389,9 +475,21 @@ public class EventService {
             );
         }
 
+        // 삭제 기록 (이벤트 + cascade로 같이 지워지는 이벤트 TODO)
+        List<CalTombstone> tombstones = new ArrayList<>();
+        tombstones.add(CalTombstone.of(projectId, CalTombstone.ItemType.EVENT, event.getId()));
+        eventTodoRepository.findByEventId(event.getId())
+                .forEach(todo -> tombstones.add(CalTombstone.of(projectId, CalTombstone.ItemType.EVENT_TODO, todo.getId())));
+        calTombstoneRepository.saveAll(tombstones);
+
         // 링크 삭제
         eventLinkRepository.deleteByEventId(event.getId());
         // 이벤트 삭제
         eventRepository.delete(event);
+        activeDaysService.refreshSharedAfterCommit(projectId, event.getStartAt(), event.getEndAt());
+
+        // 캘린더 캐시 무효화 + 실시간 전송
+        projectVersionTracker.bump(projectId);
+        projectChangePublisher.publishAfterCommit(projectId, "EVENT", "DELETED", id, userId);
     }
 }
@@ -0,0 +1,15 @@
+package cola.springboot.cocal.event.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventPageResponse {
+    private List<EventResponse> items;
+    private String nextCursor;   // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -17,12 +17,14 @@ public interface EventLinkRepository extends JpaRepository<EventLink, Long> {
     /**
      * 여러 이벤트 ID에 속한 모든 링크를 정렬 순서(order_no) 기준으로 한 번에 조회
      * - PostgreSQL 인덱스(idx_el_event_order) 자동 활용
+     * - Event를 fetch join (병렬 조회 시 세션 밖에서 el.getEvent()를 읽어도 안전하도록)
      */
     @Query("""
         select el
         from EventLink el
-        where el.event.id in :eventIds
-        order by el.event.id, el.orderNo asc
+        join fetch el.event e
+        where e.id in :eventIds
+        order by e.id, el.orderNo asc
         """)
     List<EventLink> findAllByEventIds(@Param("eventIds") List<Long> eventIds);
 }
@@ -22,14 +22,15 @@ public interface EventMemberRepository extends JpaRepository<EventMember, EventM
 
     /**
      * 여러 이벤트 ID에 속한 모든 멤버 + 유저를 한 번에 조회
-     * - fetch join으로 User를 한 번에 로딩
+     * - fetch join으로 Event/User를 한 번에 로딩 (별도 트랜잭션에서 조회 후 detach 되어도 지연 로딩 없이 사용 가능)
      * - PostgreSQL IN 절 최적화: (event_id = ANY(:eventIds))
      */
     @Query("""
         select em
         from EventMember em
+        join fetch em.event e
         join fetch em.user u
-        where em.event.id in :eventIds
+        where e.id in :eventIds
         """)
     List<EventMember> findAllByEventIds(@Param("eventIds") List<Long> eventIds);
 }
@@ -1,5 +1,6 @@
 package cola.springboot.cocal.eventMember;
 
+import cola.springboot.cocal.cal.ProjectVersionTracker;
 import cola.springboot.cocal.event.Event;
 import cola.springboot.cocal.event.EventRepository;
 import cola.springboot.cocal.user.User;
@@ -8,12 +9,15 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 public class EventMemberService {
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
     private final EventMemberRepository eventMemberRepository;
+    private final ProjectVersionTracker projectVersionTracker;
 
     @Transactional
     public void addMember(Long eventId, Long userId) {
@@ -24,11 +28,21 @@ public class EventMemberService {
             return; // 이미 있으면 무시
         }
         eventMemberRepository.save(EventMember.of(event, user));
+        // 증분 동기화에 반영되도록 이벤트 updated_at 갱신
+        eventRepository.touchUpdatedAt(eventId, LocalDateTime.now());
+
+        // 캘린더 캐시 무효화
+        projectVersionTracker.bump(eventRepository.findProjectIdById(eventId));
     }
 
     // 제거
     @Transactional
     public void removeMember(Long eventId, Long userId) {
         eventMemberRepository.deleteById_EventIdAndId_UserId(eventId, userId);
+        // 증분 동기화에 반영되도록 이벤트 updated_at 갱신
+        eventRepository.touchUpdatedAt(eventId, LocalDateTime.now());
+
+        // 캘린더 캐시 무효화
+        projectVersionTracker.bump(eventRepository.findProjectIdById(eventId));
     }
 }
@@ -13,6 +13,7 @@ import cola.springboot.cocal.project.Project;
 import cola.springboot.cocal.project.ProjectRepository;
 import cola.springboot.cocal.projectMember.ProjectMember;
 import cola.springboot.cocal.projectMember.ProjectMemberRepository;
+import cola.springboot.cocal.todo.agenda.AgendaItemRepository;
 import cola.springboot.cocal.user.User;
 import cola.springboot.cocal.user.UserRepository;
 import org.slf4j.Logger;
@@ -43,6 +44,7 @@ public class InviteService {
     private static final SecureRandom RNG = new SecureRandom();
     private static final HexFormat HEX = HexFormat.of();
     private final NotificationRepository notificationRepository;
+    private final AgendaItemRepository agendaItemRepository;
     private static final Logger log = LoggerFactory.getLogger(InviteService.class);
 
     // 토큰 생성기
@@ -137,7 +139,7 @@ public class InviteService {
                 }
                 case CANCEL, EXPIRED, DECLINED -> {
                     // 기존 알림 삭제(읽지 않았다는 가정하에)
-                    notificationRepository.deleteByUserIdAndProjectIdAndType(targetUser.get().getId(), targetInv.getProject().getId(), "INVITE");
+                    notificationService.deleteInviteNotification(targetUser.get().getId(), targetInv.getProject().getId());
                 }
                 case ACCEPTED -> throw new BusinessException(
                         HttpStatus.CONFLICT,
@@ -263,6 +265,7 @@ public class InviteService {
                 .build();
 
         projectMemberRepository.save(member);
+        agendaItemRepository.fillEventTodosForMember(invite.getProject().getId(), userId);
 
         // 알림id 반환
         return notificationRepository.findIdByUserIdAndReferenceIdAndType(userId, inviteId,"INVITE");
@@ -386,6 +389,7 @@ public class InviteService {
                     .createdAt(LocalDateTime.now())
                     .build();
             projectMemberRepository.save(member);
+            agendaItemRepository.fillEventTodosForMember(projectId, userId);
         }
 
         inv.setType(InviteType.EMAIL);
@@ -2,13 +2,18 @@ package cola.springboot.cocal.memo;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface MemoRepository extends JpaRepository<Memo, Long> {
    
@@ -50,4 +55,60 @@ public interface MemoRepository extends JpaRepository<Memo, Long> {
 """)
     List<Memo> findAllByProjectIdWithAuthor(@Param("projectId") Long projectId);
 
+    // 프로젝트의 [from, to] 날짜 구간 메모 조회 (idx_memos_project_date 사용)
+    @Query("""
+    select m
+    from Memo m
+    join fetch m.author a
+    where m.project.id = :projectId
+      and m.memoDate between :from and :to
+    order by m.memoDate asc, m.createdAt desc
+""")
+    List<Memo> findAllByProjectIdAndMemoDateBetweenWithAuthor(@Param("projectId") Long projectId,
+                                                              @Param("from") LocalDate from,
+                                                              @Param("to") LocalDate to);
+
+    // 스트리밍 응답용: 프로젝트 메모를 커서로 읽음
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+    select m
+    from Memo m
+    join fetch m.author a
+    where m.project.id = :projectId
+    order by m.memoDate asc, m.createdAt desc
+""")
+    Stream<Memo> streamAllByProjectIdWithAuthor(@Param("projectId") Long projectId);
+
+    // 스트리밍 응답용: [from, to] 날짜 구간 메모
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+    select m
+    from Memo m
+    join fetch m.author a
+    where m.project.id = :projectId
+      and m.memoDate between :from and :to
+    order by m.memoDate asc, m.createdAt desc
+""")
+    Stream<Memo> streamAllByProjectIdAndMemoDateBetweenWithAuthor(@Param("projectId") Long projectId,
+                                                                  @Param("from") LocalDate from,
+                                                                  @Param("to") LocalDate to);
+
+    // 프로젝트에서 since 이후 생성/수정된 메모 조회 (idx_memos_project_updated 사용)
+    @Query("""
+    select m
+    from Memo m
+    join fetch m.author a
+    where m.project.id = :projectId
+      and m.updatedAt > :since
+    order by m.updatedAt asc, m.id asc
+""")
+    List<Memo> findAllByProjectIdUpdatedAfterWithAuthor(@Param("projectId") Long projectId,
+                                                        @Param("since") LocalDateTime since);
+
 }
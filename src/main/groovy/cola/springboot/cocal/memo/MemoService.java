@@ -1,5 +1,8 @@
 package cola.springboot.cocal.memo;
 
+import cola.springboot.cocal.cal.CalTombstone;
+import cola.springboot.cocal.cal.CalTombstoneRepository;
+import cola.springboot.cocal.cal.ProjectVersionTracker;
 import cola.springboot.cocal.common.exception.BusinessException;
 import cola.springboot.cocal.memo.DTO.MemoCreateRequest;
 import cola.springboot.cocal.memo.DTO.MemoMapper;
@@ -8,6 +11,7 @@ import cola.springboot.cocal.project.Project;
 import cola.springboot.cocal.project.ProjectRepository;
 import cola.springboot.cocal.projectMember.ProjectMember;
 import cola.springboot.cocal.projectMember.ProjectMemberRepository;
+import cola.springboot.cocal.realtime.ProjectChangePublisher;
 import cola.springboot.cocal.user.User;
 import cola.springboot.cocal.user.UserRepository;
 import jakarta.transaction.Transactional;
@@ -28,6 +32,9 @@ public class MemoService {
     private final ProjectRepository projectRepository;
     private final ProjectMemberRepository projectMemberRepository;
     private final UserRepository userRepository;
+    private final ProjectVersionTracker projectVersionTracker;
+    private final CalTombstoneRepository calTombstoneRepository;
+    private final ProjectChangePublisher projectChangePublisher;
 
     // 메모 생성
     @Transactional
@@ -70,6 +77,10 @@ public class MemoService {
                 .createdAt(LocalDateTime.now())
                 .build();
         Memo saved = memoRepository.save(memo);
+
+        // 캘린더 캐시 무효화 + 실시간 전송
+        projectVersionTracker.bump(projectId);
+        projectChangePublisher.publishAfterCommit(projectId, "MEMO", "CREATED", saved.getId(), userId);
         return MemoMapper.toResponse(saved, author);
     }
 
@@ -127,6 +138,10 @@ public class MemoService {
         // 저장 (DB 트리거가 updated_at을 갱신)
         Memo saved = memoRepository.save(memo);
 
+        // 캘린더 캐시 무효화 + 실시간 전송
+        projectVersionTracker.bump(projectId);
+        projectChangePublisher.publishAfterCommit(projectId, "MEMO", "UPDATED", memoId, requesterUserId);
+
         return MemoMapper.toResponse(saved, saved.getAuthor());
     }
 
@@ -159,5 +174,10 @@ public class MemoService {
 
         // 삭제
         memoRepository.delete(memo);
+        calTombstoneRepository.save(CalTombstone.of(projectId, CalTombstone.ItemType.MEMO, memoId));
+
+        // 캘린더 캐시 무효화 + 실시간 전송
+        projectVersionTracker.bump(projectId);
+        projectChangePublisher.publishAfterCommit(projectId, "MEMO", "DELETED", memoId, requesterUserId);
     }
 }
\ No newline at end of file
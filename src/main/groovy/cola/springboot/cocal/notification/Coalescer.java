@@ -0,0 +1,48 @@
+package cola.springboot.cocal.notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 같은 키로 짧은 시간에 몰려 들어온 변경을 하나로 합침
+ * - 마지막 변경 후 debounce 만큼 조용하면 꺼냄
+ * - 계속 변경이 들어와도 첫 변경 후 maxWait 이 지나면 꺼냄 (무한정 밀리지 않도록)
+ */
+final class Coalescer<K> {
+    private record Pending(long firstAt, long lastAt) {}
+
+    private final Map<K, Pending> pending = new ConcurrentHashMap<>();
+    private final long debounceMillis;
+    private final long maxWaitMillis;
+
+    Coalescer(long debounceMillis, long maxWaitMillis) {
+        this.debounceMillis = debounceMillis;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    void touch(K key, long nowMillis) {
+        pending.merge(key, new Pending(nowMillis, nowMillis),
+                (prev, next) -> new Pending(prev.firstAt(), nowMillis));
+    }
+
+    // 처리할 때가 된 키를 꺼냄
+    List<K> drainReady(long nowMillis) {
+        List<K> ready = new ArrayList<>();
+        for (Map.Entry<K, Pending> entry : pending.entrySet()) {
+            Pending p = entry.getValue();
+            boolean quiet = nowMillis - p.lastAt() >= debounceMillis;
+            boolean waitedTooLong = nowMillis - p.firstAt() >= maxWaitMillis;
+            // 그 사이 새 변경이 들어왔으면 remove 가 실패하고 다음 번에 다시 봄
+            if ((quiet || waitedTooLong) && pending.remove(entry.getKey(), p)) {
+                ready.add(entry.getKey());
+            }
+        }
+        return ready;
+    }
+
+    int size() {
+        return pending.size();
+    }
+}
@@ -38,6 +38,10 @@ public class Notification {
     @Column(name = "project_name", length = 255)
     private String projectName;
 
+    // 이벤트/개인 TODO 알림의 기준 알림 시각 (중복 방지 키, 그 외 알림은 null)
+    @Column(name = "remind_at")
+    private LocalDateTime remindAt;
+
     @Builder.Default
     @Column(name = "sent_at", nullable = false, updatable = false)
     private LocalDateTime sentAt = LocalDateTime.now();
@@ -0,0 +1,183 @@
+package cola.springboot.cocal.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 서버 여러 대에서의 알림 전달 (PostgreSQL LISTEN/NOTIFY)
+ * - 알림은 먼저 이 서버의 SSE 연결로 보내고, 다른 서버에는 pg_notify 로 (사용자 ID, 알림 ID)만 알림
+ * - 각 서버는 전용 커넥션(풀 밖)에서 LISTEN 하다가, 자기 서버에 연결된 사용자 것만 DB 에서 읽어 전송
+ * - 알림을 저장한 트랜잭션이 커밋된 뒤(afterCommit)에 호출 → 롤백된 알림은 보내지 않고, pg_notify 실패가 알림 저장을 되돌리지 않음
+ * - afterCommit 시점에는 이전 커넥션이 아직 스레드에 묶여 있어서 pg_notify 는 별도 트랜잭션(REQUIRES_NEW)에서 실행
+ * - app.notification.bus.enabled=false 면 지금처럼 이 서버 안에서만 전달
+ */
+@Component
+public class NotificationBus {
+    private static final Logger log = LoggerFactory.getLogger(NotificationBus.class);
+    private static final String CHANNEL = "cocal_notification";
+    // pg_notify payload 제한(8000 bytes) 안에 들어가도록 나눠 보냄
+    private static final int ITEMS_PER_MESSAGE = 200;
+    private static final long POLL_TIMEOUT_MILLIS = 10_000;
+    private static final long RECONNECT_DELAY_MILLIS = 5_000;
+
+    public record Delivery(Long userId, NotificationResponse response) {}
+
+    // (userId, notificationId) 목록
+    private record Message(String node, List<long[]> items) {}
+
+    private final boolean enabled;
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+    private final SseHub sseHub;
+    private final NotificationRepository notificationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final DataSourceProperties dataSourceProperties;
+    private final TransactionTemplate readOnlyTx;
+    private final TransactionTemplate notifyTx;
+
+    private volatile boolean running;
+    private Thread listener;
+
+    public NotificationBus(SseHub sseHub,
+                           NotificationRepository notificationRepository,
+                           JdbcTemplate jdbcTemplate,
+                           ObjectMapper objectMapper,
+                           DataSourceProperties dataSourceProperties,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.notification.bus.enabled:false}") boolean enabled) {
+        this.sseHub = sseHub;
+        this.notificationRepository = notificationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.dataSourceProperties = dataSourceProperties;
+        this.enabled = enabled;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.notifyTx = new TransactionTemplate(transactionManager);
+        this.notifyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 커밋 후에 호출 (TransactionUtils.afterCommit)
+    public void publish(Long userId, NotificationResponse response) {
+        publishAll(List.of(new Delivery(userId, response)));
+    }
+
+    public void publishAll(List<Delivery> deliveries) {
+        for (Delivery delivery : deliveries) {
+            sseHub.send(delivery.userId(), delivery.response());
+        }
+        if (!enabled || deliveries.isEmpty()) return;
+
+        for (int from = 0; from < deliveries.size(); from += ITEMS_PER_MESSAGE) {
+            List<long[]> items = new ArrayList<>();
+            for (Delivery delivery : deliveries.subList(from, Math.min(from + ITEMS_PER_MESSAGE, deliveries.size()))) {
+                items.add(new long[]{delivery.userId(), delivery.response().getId()});
+            }
+            try {
+                String payload = objectMapper.writeValueAsString(new Message(nodeId, items));
+                notifyTx.executeWithoutResult(status ->
+                        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, CHANNEL, payload));
+            } catch (Exception e) {
+                // 다른 서버 전달 실패는 알림 저장에 영향 주지 않음 (재연결 시 /unread 로 복구)
+                log.warn("Notification bus publish failed", e);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) return;
+        running = true;
+        listener = new Thread(this::listenLoop, "notification-bus");
+        listener.setDaemon(true);
+        listener.start();
+        log.info("Notification bus listening on '{}' (node {})", CHANNEL, nodeId);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection con = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                try (Statement st = con.createStatement()) {
+                    st.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pg = con.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications((int) POLL_TIMEOUT_MILLIS);
+                    if (notifications == null) continue;
+                    for (PGNotification notification : notifications) {
+                        handle(notification.getParameter());
+                    }
+                }
+            } catch (Exception e) {
+                if (!running) return;
+                log.warn("Notification bus connection lost, reconnecting", e);
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MILLIS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    // LISTEN 으로 받은 메시지 처리
+    void handle(String payload) {
+        try {
+            Message message = objectMapper.readValue(payload, Message.class);
+            if (nodeId.equals(message.node())) return; // 내가 보낸 건 이미 전송함
+
+            // 이 서버에 연결된 사용자 것만 읽음
+            Map<Long, Long> userByNotification = new HashMap<>();
+            for (long[] item : message.items()) {
+                if (sseHub.hasConnections(item[0])) {
+                    userByNotification.put(item[1], item[0]);
+                }
+            }
+            if (userByNotification.isEmpty()) return;
+
+            List<NotificationResponse> responses = readOnlyTx.execute(status ->
+                    notificationRepository.findAllById(userByNotification.keySet()).stream()
+                            .map(NotificationResponse::fromEntity)
+                            .toList());
+            for (NotificationResponse response : responses) {
+                sseHub.send(userByNotification.get(response.getId()), response);
+            }
+        } catch (Exception e) {
+            log.warn("Notification bus message dropped: {}", payload, e);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package cola.springboot.cocal.notification;
 import cola.springboot.cocal.common.api.ApiResponse;
 import cola.springboot.cocal.common.exception.BusinessException;
 import cola.springboot.cocal.common.security.JwtTokenProvider;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -20,6 +21,7 @@ public class NotificationController {
     private final NotificationService notificationService;
     private final JwtTokenProvider jwtTokenProvider;
 
+    // 재연결 시 Last-Event-ID(헤더 또는 lastEventId 파라미터) 이후 알림만 다시 받음
     @GetMapping("/subscribe")
     public SseEmitter subscribe(HttpServletRequest request) {
         String token = request.getParameter("token");
@@ -27,12 +29,47 @@ public class NotificationController {
             throw new BusinessException(HttpStatus.UNAUTHORIZED, "TOKEN_MISSING", "토큰이 없습니다.");
         }
 
-        if (!jwtTokenProvider.isValid(token)) {
+        Long userId;
+        try {
+            userId = jwtTokenProvider.getUserId(jwtTokenProvider.getClaims(token));
+        } catch (JwtException | IllegalArgumentException e) {
             throw new BusinessException(HttpStatus.UNAUTHORIZED, "INVALID_TOKEN", "유효하지 않은 토큰입니다.");
         }
+        return notificationService.subscribe(userId, parseLastEventId(request));
+    }
+
+    private static Long parseLastEventId(HttpServletRequest request) {
+        String value = request.getHeader("Last-Event-ID");
+        if (value == null || value.isBlank()) {
+            value = request.getParameter("lastEventId");
+        }
+        if (value == null || value.isBlank()) return null;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null; // 잘못된 값이면 처음 연결처럼 처리
+        }
+    }
+
+    // 알림함 (읽은 알림 포함, cursor 기반 페이지네이션)
+    @GetMapping
+    public ResponseEntity<ApiResponse<NotificationPageResponse>> getInbox(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            Authentication auth,
+            HttpServletRequest req
+    ) {
+        Long userId = Long.parseLong(auth.getName());
+        NotificationPageResponse data = notificationService.getInbox(userId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.ok(data, req.getRequestURI()));
+    }
 
-        Long userId = jwtTokenProvider.getUserId(token);
-        return notificationService.subscribe(userId);
+    // 읽지 않은 알림 개수 (배지용)
+    @GetMapping("/unread-count")
+    public ResponseEntity<ApiResponse<Long>> getUnreadCount(Authentication auth,
+                                                            HttpServletRequest req) {
+        Long userId = Long.parseLong(auth.getName());
+        return ResponseEntity.ok(ApiResponse.ok(notificationService.getUnreadCount(userId), req.getRequestURI()));
     }
 
     // 읽지 않은 알림 조회
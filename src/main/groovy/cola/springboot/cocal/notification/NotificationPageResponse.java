@@ -0,0 +1,18 @@
+package cola.springboot.cocal.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationPageResponse {
+    private List<NotificationResponse> items;
+    private String nextCursor;   // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+}
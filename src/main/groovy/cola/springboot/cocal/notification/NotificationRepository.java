@@ -1,21 +1,73 @@
 package cola.springboot.cocal.notification;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findAllByUserIdAndIsReadFalse(Long userId);
 
+    // SSE 재연결 시 Last-Event-ID 이후 알림 (idx_notifications_user_id)
+    List<Notification> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long lastId, Pageable pageable);
+
+    // 알림함 첫 페이지: 최신순 (idx_notifications_user_sent 사용)
+    @Query("""
+        SELECT n FROM Notification n
+        WHERE n.userId = :userId
+        ORDER BY n.sentAt DESC, n.id DESC
+    """)
+    List<Notification> findInboxPage(@Param("userId") Long userId, Pageable pageable);
+
+    // 알림함 다음 페이지: (sentAt, id) 이전
+    @Query("""
+        SELECT n FROM Notification n
+        WHERE n.userId = :userId
+          AND n.sentAt <= :sentAt
+          AND (n.sentAt < :sentAt OR n.id < :id)
+        ORDER BY n.sentAt DESC, n.id DESC
+    """)
+    List<Notification> findInboxPageBefore(@Param("userId") Long userId,
+                                           @Param("sentAt") LocalDateTime sentAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    // 읽지 않은 알림 개수 (idx_notifications_user_unread 사용)
+    long countByUserIdAndIsReadFalse(Long userId);
+
     // 특정 유저, 특정 이벤트, 특정 타입 알림이 이미 존재하는지 체크
     boolean existsByUserIdAndReferenceIdAndType(Long userId, Long referenceId, String type);
 
-    void deleteAllByReferenceIdAndTypeAndIsReadFalse(Long referenceId, String type);
+    // 시간 변경 시 정리 대상 알림의 사용자 (읽지 않은 개수 캐시 정리용)
+    @Query("""
+        SELECT DISTINCT n.userId FROM Notification n
+        WHERE n.referenceId = :referenceId AND n.type = :type
+          AND (n.isRead = false OR n.remindAt = :remindAt)
+    """)
+    List<Long> findStaleReminderUserIds(@Param("referenceId") Long referenceId,
+                                        @Param("type") String type,
+                                        @Param("remindAt") LocalDateTime remindAt);
+
+    /**
+     * 시간 변경 시 알림 정리 (DELETE 1번)
+     * - 이전 시각 기준 읽지 않은 알림
+     * - 새 알림 시각과 같은 시각의 알림 (A→B→A 로 되돌린 경우 읽은 A 알림이 새 알림과 충돌하지 않도록)
+     */
+    @Modifying
+    @Query("""
+        DELETE FROM Notification n
+        WHERE n.referenceId = :referenceId AND n.type = :type
+          AND (n.isRead = false OR n.remindAt = :remindAt)
+    """)
+    int deleteStaleReminders(@Param("referenceId") Long referenceId,
+                             @Param("type") String type,
+                             @Param("remindAt") LocalDateTime remindAt);
 
     // 특정 유저, 특정 프로젝트, 특정 타입의 알림 삭제(초대 알림 삭제 시 사용)
     void deleteByUserIdAndProjectIdAndType(Long userId, Long referenceId, String type);
@@ -27,6 +79,26 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
                                              @Param("type") String type);
 
 
+    // 읽지 않은 알림만 읽음 처리 (실제로 바뀌었으면 1)
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :id AND n.isRead = false")
+    int markAsRead(@Param("id") Long id);
+
+    // 보관기간 지난 읽은 알림 한 묶음 삭제 (idx_notifications_read_sent 사용)
+    // 여러 서버가 동시에 돌아도 서로 잠근 행은 건너뜀
+    @Modifying
+    @Query(value = """
+        DELETE FROM notifications
+        WHERE id IN (
+            SELECT id FROM notifications
+            WHERE is_read = TRUE
+              AND sent_at < :before
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+        )
+    """, nativeQuery = true)
+    int deleteReadOlderThan(@Param("before") LocalDateTime before, @Param("batchSize") int batchSize);
+
     // 모든 읽지 않은 알림 읽음 처리
     @Modifying
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.userId = :userId AND n.isRead = false")
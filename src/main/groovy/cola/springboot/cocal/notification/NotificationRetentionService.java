@@ -0,0 +1,53 @@
+package cola.springboot.cocal.notification;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오래된 알림 정리
+ * - 보관기간이 지난 "읽은" 알림만 삭제 (읽지 않은 알림은 기간과 상관없이 유지)
+ * - 한 번에 batch-size 개씩 별도 트랜잭션으로 지워서 긴 잠금/큰 트랜잭션을 피함
+ */
+@Service
+public class NotificationRetentionService {
+    private static final Logger log = LoggerFactory.getLogger(NotificationRetentionService.class);
+
+    private final NotificationRepository notificationRepository;
+    private final TransactionTemplate batchTx;
+    private final long retentionDays;
+    private final int batchSize;
+
+    public NotificationRetentionService(NotificationRepository notificationRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${app.notification.retention.days:90}") long retentionDays,
+                                        @Value("${app.notification.retention.batch-size:1000}") int batchSize) {
+        this.notificationRepository = notificationRepository;
+        this.batchTx = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+    }
+
+    // 보관기간 지난 읽은 알림 정리 (매일 04:40)
+    @Scheduled(cron = "0 40 4 * * *")
+    public void purgeReadNotifications() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        long total = 0;
+        int deleted;
+        do {
+            Integer count = batchTx.execute(status -> notificationRepository.deleteReadOlderThan(before, batchSize));
+            deleted = count != null ? count : 0;
+            total += deleted;
+        } while (deleted >= batchSize);
+
+        if (total > 0) {
+            log.info("[Notification] purged {} read notifications older than {}", total, before);
+        }
+    }
+}
@@ -1,44 +1,61 @@
 package cola.springboot.cocal.notification;
 
 import cola.springboot.cocal.common.exception.BusinessException;
+import cola.springboot.cocal.common.util.KeysetCursor;
+import cola.springboot.cocal.common.util.TransactionUtils;
 import cola.springboot.cocal.project.Project;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
-    // SSE용 emitter 저장소
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
-
-    public SseEmitter subscribe(Long userId) {
-        SseEmitter emitter = new SseEmitter(60L * 1000 * 10); // 10분 타임아웃
-        emitters.put(userId, emitter);
-
-        emitter.onCompletion(() -> emitters.remove(userId));
-        emitter.onTimeout(() -> emitters.remove(userId));
-
-        // 연결 직후 간단한 ping 이벤트
-        try {
-            emitter.send(SseEmitter.event().name("connect").data("connected"));
-        } catch (IOException e) {
-            emitter.completeWithError(e);
+    private final JdbcTemplate jdbcTemplate;
+    // SSE 연결 관리 (사용자당 여러 연결)
+    private final SseHub sseHub;
+    // SSE 전달 (여러 서버면 pg_notify 로 다른 서버에도)
+    private final NotificationBus notificationBus;
+    // 읽지 않은 알림 개수 (배지)
+    private final UnreadCountCache unreadCountCache;
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 재연결 시 다시 보내는 최대 개수 (넘으면 resync 이벤트로 전체 재조회 유도)
+    @Value("${app.notification.sse.replay-limit:50}")
+    private int replayLimit;
+
+    @Transactional(readOnly = true)
+    public SseEmitter subscribe(Long userId, Long lastEventId) {
+        if (lastEventId == null) {
+            return sseHub.connect(userId, null);
         }
-
-        return emitter;
+        // 재연결: 마지막으로 받은 알림 이후 것만 다시 보냄
+        return sseHub.connect(userId, () -> {
+            List<NotificationResponse> missed = notificationRepository
+                    .findByUserIdAndIdGreaterThanOrderByIdAsc(userId, lastEventId, PageRequest.of(0, replayLimit + 1))
+                    .stream()
+                    .map(NotificationResponse::fromEntity)
+                    .toList();
+            boolean truncated = missed.size() > replayLimit;
+            return new SseHub.Replay(truncated ? missed.subList(0, replayLimit) : missed, truncated);
+        });
     }
 
     // 알림 생성 후 실시간 전송
@@ -59,24 +76,89 @@ public class NotificationService {
                 .build();
 
         notificationRepository.saveAndFlush(notification);
+        TransactionUtils.afterCommit(() -> unreadCountCache.add(userId, 1));
 
         NotificationResponse response = NotificationResponse.fromEntity(notification);
 
-        // SSE로 전송
-        SseEmitter emitter = emitters.get(userId);
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("notification")
-                        .data(response));
-            } catch (IOException e) {
-                emitters.remove(userId);
-            }
-        }
+        // 커밋 후 SSE 전송 (롤백되면 보내지 않음)
+        TransactionUtils.afterCommit(() -> notificationBus.publish(userId, response));
 
         return response;
     }
 
+    // 알림 시간 알림(EVENT/PRIVATE_TODO) 일괄 생성: INSERT 1번, 이미 있는 (user, reference, type, remind_at)은 건너뜀
+    // 실제로 들어간 것만 커밋 후 SSE 전송
+    @Transactional
+    public List<NotificationResponse> sendReminderNotifications(List<Notification> drafts) {
+        if (drafts.isEmpty()) return List.of();
+
+        int n = drafts.size();
+        Long[] userIds = new Long[n];
+        String[] types = new String[n];
+        Long[] referenceIds = new Long[n];
+        String[] titles = new String[n];
+        String[] messages = new String[n];
+        Long[] projectIds = new Long[n];
+        String[] projectNames = new String[n];
+        Timestamp[] remindAts = new Timestamp[n];
+        for (int i = 0; i < n; i++) {
+            Notification d = drafts.get(i);
+            userIds[i] = d.getUserId();
+            types[i] = d.getType();
+            referenceIds[i] = d.getReferenceId();
+            titles[i] = d.getTitle();
+            messages[i] = d.getMessage();
+            projectIds[i] = d.getProject() != null ? d.getProject().getId() : null;
+            projectNames[i] = d.getProjectName();
+            remindAts[i] = d.getRemindAt() != null ? Timestamp.valueOf(d.getRemindAt()) : null;
+        }
+        Timestamp sentAt = Timestamp.valueOf(LocalDateTime.now());
+
+        List<NotificationBus.Delivery> inserted = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(BULK_INSERT_REMINDERS);
+            ps.setTimestamp(1, sentAt);
+            ps.setArray(2, con.createArrayOf("int8", userIds));
+            ps.setArray(3, con.createArrayOf("varchar", types));
+            ps.setArray(4, con.createArrayOf("int8", referenceIds));
+            ps.setArray(5, con.createArrayOf("varchar", titles));
+            ps.setArray(6, con.createArrayOf("text", messages));
+            ps.setArray(7, con.createArrayOf("int8", projectIds));
+            ps.setArray(8, con.createArrayOf("varchar", projectNames));
+            ps.setArray(9, con.createArrayOf("timestamp", remindAts));
+            return ps;
+        }, DELIVERY_MAPPER);
+
+        TransactionUtils.afterCommit(() -> {
+            inserted.forEach(delivery -> unreadCountCache.add(delivery.userId(), 1));
+            notificationBus.publishAll(inserted);
+        });
+        return inserted.stream().map(NotificationBus.Delivery::response).toList();
+    }
+
+    // uk_notifications_reminder (V23) 부분 유니크 인덱스로 중복 방지 (같은 알림 시각은 1건)
+    private static final String BULK_INSERT_REMINDERS = """
+        INSERT INTO notifications (user_id, type, reference_id, title, message, project_id, project_name, remind_at, sent_at, is_read)
+        SELECT x.user_id, x.type, x.reference_id, x.title, x.message, x.project_id, x.project_name, x.remind_at, ?, FALSE
+        FROM unnest(?::bigint[], ?::varchar[], ?::bigint[], ?::varchar[], ?::text[], ?::bigint[], ?::varchar[], ?::timestamp[])
+             AS x(user_id, type, reference_id, title, message, project_id, project_name, remind_at)
+        ON CONFLICT (user_id, reference_id, type, remind_at) WHERE type IN ('EVENT', 'PRIVATE_TODO') DO NOTHING
+        RETURNING id, user_id, type, reference_id, title, message, project_id, project_name, sent_at, is_read
+        """;
+
+    private static final RowMapper<NotificationBus.Delivery> DELIVERY_MAPPER = (rs, rowNum) -> new NotificationBus.Delivery(
+            rs.getLong("user_id"),
+            NotificationResponse.builder()
+                    .id(rs.getLong("id"))
+                    .type(rs.getString("type"))
+                    .title(rs.getString("title"))
+                    .message(rs.getString("message"))
+                    .referenceId(rs.getObject("reference_id", Long.class))
+                    .projectId(rs.getObject("project_id", Long.class))
+                    .projectName(rs.getString("project_name") != null ? rs.getString("project_name") : "")
+                    .isRead(rs.getBoolean("is_read"))
+                    .sentAt(rs.getTimestamp("sent_at").toLocalDateTime())
+                    .build());
+
     // 알림 읽음 처리
     @Transactional
     public void markAsRead(Long userId, Long notificationId) {
@@ -92,7 +174,10 @@ public class NotificationService {
             );
         }
 
-        notification.setIsRead(true);
+        // 이미 읽은 알림이면 개수 변화 없음
+        if (notificationRepository.markAsRead(notificationId) > 0) {
+            TransactionUtils.afterCommit(() -> unreadCountCache.add(userId, -1));
+        }
     }
 
     // 사용자 읽지 않은 알림 조회
@@ -103,9 +188,56 @@ public class NotificationService {
                 .toList();
     }
 
+    // 읽지 않은 알림 개수 (캐시 미스 때만 COUNT)
+    public long getUnreadCount(Long userId) {
+        return unreadCountCache.get(userId, () -> notificationRepository.countByUserIdAndIsReadFalse(userId));
+    }
+
+    // 알림함 (읽은 알림 포함, 키셋 페이지네이션, sent_at → id 최신순)
+    @Transactional(readOnly = true)
+    public NotificationPageResponse getInbox(Long userId, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(HttpStatus.BAD_REQUEST, "INVALID_PAGE_SIZE",
+                    "size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Notification> notifications;
+        if (cursor == null || cursor.isBlank()) {
+            notifications = notificationRepository.findInboxPage(userId, limit);
+        } else {
+            KeysetCursor before = KeysetCursor.decode(cursor);
+            notifications = notificationRepository.findInboxPageBefore(userId, before.at(), before.id(), limit);
+        }
+
+        boolean hasNext = notifications.size() > size;
+        List<Notification> page = hasNext ? notifications.subList(0, size) : notifications;
+        String nextCursor = null;
+        if (hasNext) {
+            Notification last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getSentAt(), last.getId()).encode();
+        }
+
+        return NotificationPageResponse.builder()
+                .items(page.stream().map(NotificationResponse::fromEntity).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
     // 전체 읽기
     @Transactional
     public int markAllAsRead(Long userId) {
-        return notificationRepository.markAllAsRead(userId);
+        int updated = notificationRepository.markAllAsRead(userId);
+        TransactionUtils.afterCommit(() -> unreadCountCache.reset(userId));
+        return updated;
+    }
+
+    // 특정 프로젝트 초대 알림 삭제 (재초대 시)
+    @Transactional
+    public void deleteInviteNotification(Long userId, Long projectId) {
+        notificationRepository.deleteByUserIdAndProjectIdAndType(userId, projectId, "INVITE");
+        TransactionUtils.afterCommit(() -> unreadCountCache.evict(userId));
     }
 }
\ No newline at end of file
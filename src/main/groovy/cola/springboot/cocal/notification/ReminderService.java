@@ -1,165 +1,281 @@
 package cola.springboot.cocal.notification;
 
+import cola.springboot.cocal.common.util.TransactionUtils;
+import cola.springboot.cocal.config.SchedulingConfig;
 import cola.springboot.cocal.event.Event;
 import cola.springboot.cocal.event.EventRepository;
+import cola.springboot.cocal.eventMember.EventMember;
 import cola.springboot.cocal.eventMember.EventMemberRepository;
 import cola.springboot.cocal.project.Project;
 import cola.springboot.cocal.project.ProjectRepository;
 import cola.springboot.cocal.todo.private_todo.PrivateTodo;
 import cola.springboot.cocal.todo.private_todo.PrivateTodoRepository;
 import cola.springboot.cocal.user.User;
-import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * 이벤트/개인 TODO 알림
+ * - 다가오는 알림 시각(remind_at)을 메모리 타이밍 휠에 올려두고 1초마다 발송
+ * - 휠은 1분마다 다음 구간의 미발송 건만 DB에서 채우고, 생성/시간 변경 시에는 바로 예약
+ * - 발송 시 reminder_sent 를 선점해서 서버 재시작/여러 대 환경에서도 한 번만 발송
+ */
 @Service
-@RequiredArgsConstructor
 public class ReminderService {
+    private static final Logger log = LoggerFactory.getLogger(ReminderService.class);
+    // 기존과 같이 시작 1시간 이내(offset 60분 이하)인 것만 알림
+    private static final int MAX_OFFSET_MINUTES = 60;
+    // refill 때 휠에 올리는 범위
+    private static final int REFILL_WINDOW_MINUTES = 10;
+
     private final EventRepository eventRepository;
     private final EventMemberRepository eventMemberRepository;
     private final NotificationService notificationService;
     private final NotificationRepository notificationRepository;
     private final PrivateTodoRepository privateTodoRepository;
     private final ProjectRepository projectRepository;
+    private final UnreadCountCache unreadCountCache;
+    private final TransactionTemplate fireTx;
+    // 서버가 내려가 있던 동안 놓친 알림을 얼마나 뒤까지 보낼지
+    private final int catchUpMinutes;
+
+    private final ReminderWheel wheel = new ReminderWheel(nowSec());
+    // 시간 변경 모으기 (referenceId, type 기준)
+    private final Coalescer<ReminderWheel.Key> timeChanges;
+    // 휠에 채워 넣은 구간의 끝 (이후 refill 은 여기서부터)
+    private LocalDateTime filledUntil;
+
+    public ReminderService(EventRepository eventRepository,
+                           EventMemberRepository eventMemberRepository,
+                           NotificationService notificationService,
+                           NotificationRepository notificationRepository,
+                           PrivateTodoRepository privateTodoRepository,
+                           ProjectRepository projectRepository,
+                           UnreadCountCache unreadCountCache,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.reminder.catch-up-minutes:30}") int catchUpMinutes,
+                           @Value("${app.reminder.coalesce.debounce-ms:2000}") long debounceMillis,
+                           @Value("${app.reminder.coalesce.max-wait-ms:10000}") long maxWaitMillis) {
+        this.eventRepository = eventRepository;
+        this.eventMemberRepository = eventMemberRepository;
+        this.notificationService = notificationService;
+        this.notificationRepository = notificationRepository;
+        this.privateTodoRepository = privateTodoRepository;
+        this.projectRepository = projectRepository;
+        this.unreadCountCache = unreadCountCache;
+        this.fireTx = new TransactionTemplate(transactionManager);
+        this.catchUpMinutes = catchUpMinutes;
+        this.timeChanges = new Coalescer<>(debounceMillis, maxWaitMillis);
+    }
 
-    // 1분마다 실행, event offsetMinutes 알림
-    @Transactional
+    // 1분마다 다음 구간의 알림을 휠에 채움
     @Scheduled(fixedRate = 60000)
-    public void sendEventReminders() {
+    @Transactional(readOnly = true)
+    public void refill() {
         LocalDateTime now = LocalDateTime.now();
-        System.out.println("Checking events at: " + now);
+        LocalDateTime oldest = now.minusMinutes(catchUpMinutes);
+        // 처음(서버 시작)에는 놓친 미발송 알림까지 함께 채움
+        LocalDateTime from = filledUntil != null && filledUntil.isAfter(oldest) ? filledUntil : oldest;
+        LocalDateTime to = now.plusMinutes(REFILL_WINDOW_MINUTES);
+        if (!from.isBefore(to)) return;
+
+        int count = 0;
+        for (Event event : eventRepository.findUnsentRemindersBetween(from, to)) {
+            if (scheduleEvent(event)) count++;
+        }
+        for (PrivateTodo todo : privateTodoRepository.findUnsentRemindersBetween(from, to)) {
+            if (schedulePrivateTodo(todo)) count++;
+        }
 
-        // offset 기준으로 1분 이내 시작하는 이벤트 찾기
-        // repository 쿼리에서 startAt - offsetMinutes 기준으로 1분 범위 내 이벤트 조회
-        // 이벤트 알림
-        List<Event> upcomingEvents = eventRepository.findEventsStartingAfterOffset(now);
-        /*System.out.println("Found " + upcomingEvents.size() + " upcoming events.");*/
+        filledUntil = to;
+        log.debug("Reminder wheel refilled: +{} (pending {})", count, wheel.size());
+    }
 
-        for (Event event : upcomingEvents) {
-            // offsetMinutes 기준 알림 시간 계산
-            LocalDateTime reminderTime = event.getStartAt().minusMinutes(event.getOffsetMinutes());
+    // 1초마다 휠을 진행하고 시각이 된 알림 발송 (전용 스케줄러, SchedulingConfig 참고)
+    @Scheduled(fixedRate = 1000, scheduler = SchedulingConfig.REMINDER_SCHEDULER)
+    public void tick() {
+        List<ReminderWheel.Key> due = wheel.advance(nowSec());
+        if (due.isEmpty()) return;
+        try {
+            fireTx.executeWithoutResult(status -> fire(due));
+        } catch (Exception e) {
+            log.warn("Reminder send failed: {} reminder(s)", due.size(), e);
+        }
+    }
 
-            // 현재 시간이 reminderTime + 1분 범위를 벗어나면 skip
-            if (now.isBefore(reminderTime) || now.isAfter(reminderTime.plusMinutes(1))) continue;
+    // 이벤트 알림 예약 (범위 밖이거나 offset 이 너무 크면 무시)
+    public boolean scheduleEvent(Event event) {
+        if (event.getRemindAt() == null || event.isReminderSent() || event.getOffsetMinutes() > MAX_OFFSET_MINUTES) return false;
+        return schedule(new ReminderWheel.Key("EVENT", event.getId()), event.getRemindAt());
+    }
 
-            // 이벤트에 등록된 팀원 전부 불러오기
-            List<User> members = eventMemberRepository.findUsersByEventId(event.getId());
+    // 개인 TODO 알림 예약 (날짜가 없으면 무시)
+    public boolean schedulePrivateTodo(PrivateTodo todo) {
+        if (todo.getRemindAt() == null || todo.isReminderSent() || todo.getOffsetMinutes() > MAX_OFFSET_MINUTES) return false;
+        return schedule(new ReminderWheel.Key("PRIVATE_TODO", todo.getId()), todo.getRemindAt());
+    }
+
+    /**
+     * 이벤트 시간 변경 시 호출
+     * 커밋 후 변경을 모아두었다가 잠잠해지면 한 번만 미발송 알림 삭제 + 다시 예약
+     * (드래그로 연속 수정해도 삭제/예약은 한 번)
+     */
+    public void handleEventTimeChange(Event event) {
+        Long eventId = event.getId();
+        TransactionUtils.afterCommit(() -> timeChanges.touch(new ReminderWheel.Key("EVENT", eventId), System.currentTimeMillis()));
+    }
 
-            for (User member : members) {
-                // 이미 알림이 전송됐는지 확인 (중복 방지)
-                boolean alreadySent = notificationRepository.existsByUserIdAndReferenceIdAndType(
-                        member.getId(), event.getId(), "EVENT"
-                );
+    /**
+     * PrivateTodo 시간 변경 시 호출
+     * 커밋 후 변경을 모아두었다가 잠잠해지면 한 번만 미발송 알림 삭제 + 다시 예약
+     */
+    public void handlePrivateTodoTimeChange(PrivateTodo todo) {
+        Long todoId = todo.getId();
+        TransactionUtils.afterCommit(() -> timeChanges.touch(new ReminderWheel.Key("PRIVATE_TODO", todoId), System.currentTimeMillis()));
+    }
 
-                if (alreadySent) {
-                    // 이미 알림 보냈으면 skip
-                    continue;
+    // 모아둔 시간 변경 처리 (전용 스케줄러)
+    @Scheduled(fixedDelay = 500, scheduler = SchedulingConfig.REMINDER_SCHEDULER)
+    public void flushTimeChanges() {
+        List<ReminderWheel.Key> ready = timeChanges.drainReady(System.currentTimeMillis());
+        if (ready.isEmpty()) return;
+        try {
+            fireTx.executeWithoutResult(status -> {
+                for (ReminderWheel.Key key : ready) {
+                    if ("EVENT".equals(key.type())) {
+                        Event event = eventRepository.findById(key.referenceId()).orElse(null);
+                        // 모으는 사이 새 시간으로 이미 발송됐으면 그 알림은 남겨둠
+                        if (event != null && event.isReminderSent()) continue;
+                        clearStale(key, event != null ? event.getRemindAt() : null);
+                        if (event != null) scheduleEvent(event);
+                    } else {
+                        PrivateTodo todo = privateTodoRepository.findById(key.referenceId()).orElse(null);
+                        if (todo != null && todo.isReminderSent()) continue;
+                        clearStale(key, todo != null ? todo.getRemindAt() : null);
+                        if (todo != null) schedulePrivateTodo(todo);
+                    }
                 }
+            });
+        } catch (Exception e) {
+            log.warn("Reminder time change flush failed: {} item(s)", ready.size(), e);
+        }
+    }
 
-                // 팀원에게 알림 전송
-                String message = event.getOffsetMinutes() == 0
-                        ? "이벤트가 지금 시작합니다."
-                        : "이벤트가 '" + event.getOffsetMinutes() + "분 후' 시작합니다.";
-
-                notificationService.sendNotification(
-                        member.getId(),
-                        "EVENT",
-                        event.getId(),
-                        "곧 시작하는 이벤트: " + event.getTitle(),
-                        message,
-                        event.getProject(),
-                        event.getProject().getName()
-                );
+    // 기존 시간 기준 읽지 않은 알림 + 새 알림 시각과 겹치는 알림 삭제 (휠의 이전 예약은 다시 예약하면 대체됨)
+    private void clearStale(ReminderWheel.Key key, LocalDateTime newRemindAt) {
+        List<Long> userIds = notificationRepository.findStaleReminderUserIds(key.referenceId(), key.type(), newRemindAt);
+        if (userIds.isEmpty()) return;
+        notificationRepository.deleteStaleReminders(key.referenceId(), key.type(), newRemindAt);
+        TransactionUtils.afterCommit(() -> userIds.forEach(unreadCountCache::evict));
+    }
+
+    private boolean schedule(ReminderWheel.Key key, LocalDateTime remindAt) {
+        // 이미 한참 지난 알림은 예약하지 않음
+        if (remindAt.isBefore(LocalDateTime.now().minusMinutes(catchUpMinutes))) return false;
+        // 초 미만은 올림 (발송 시점이 알림 시각보다 앞서지 않도록)
+        return wheel.schedule(key, toEpochSec(remindAt.plusNanos(999_999_999)));
+    }
+
+    // 발송 직전 DB 에서 선점 (삭제/이미 발송/다른 서버에서의 시간 변경이면 0건이라 건너뜀)
+    // 이번 tick 에 발송할 알림을 모아 한 번에 INSERT
+    private void fire(List<ReminderWheel.Key> keys) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> eventIds = new ArrayList<>();
+        List<Long> todoIds = new ArrayList<>();
+        for (ReminderWheel.Key key : keys) {
+            if ("EVENT".equals(key.type())) {
+                if (eventRepository.claimReminder(key.referenceId(), now) > 0) eventIds.add(key.referenceId());
+            } else {
+                if (privateTodoRepository.claimReminder(key.referenceId(), now) > 0) todoIds.add(key.referenceId());
             }
         }
 
-        // PrivateTodo 알림
-        List<PrivateTodo> upcomingTodos = privateTodoRepository.findTodosStartingAfterOffset(now);
+        List<Notification> drafts = new ArrayList<>();
+        if (!eventIds.isEmpty()) {
+            addEventDrafts(eventIds, drafts);
+        }
+        if (!todoIds.isEmpty()) {
+            addTodoDrafts(todoIds, drafts);
+        }
+        notificationService.sendReminderNotifications(drafts);
+    }
 
-        for (PrivateTodo todo : upcomingTodos) {
-            LocalDateTime reminderTime = todo.getDate().minusMinutes(todo.getOffsetMinutes());
-            if (now.isBefore(reminderTime) || now.isAfter(reminderTime.plusMinutes(1))) continue;
+    private void addEventDrafts(List<Long> eventIds, List<Notification> drafts) {
+        // 이벤트에 등록된 팀원 전부 한 번에 불러오기
+        Map<Long, List<User>> membersByEvent = new HashMap<>();
+        for (EventMember em : eventMemberRepository.findAllByEventIds(eventIds)) {
+            membersByEvent.computeIfAbsent(em.getId().getEventId(), k -> new ArrayList<>()).add(em.getUser());
+        }
 
-            boolean alreadySent = notificationRepository.existsByUserIdAndReferenceIdAndType(
-                    todo.getOwnerId(), todo.getId(), "PRIVATE_TODO"
-            );
-            if (alreadySent) continue;
+        for (Event event : eventRepository.findAllWithProjectByIdIn(eventIds)) {
+            if (event.getOffsetMinutes() > MAX_OFFSET_MINUTES) continue;
 
-            String message = todo.getOffsetMinutes() == 0
-                    ? todo.getTitle() + " TODO가 지금 시작합니다."
-                    : todo.getTitle() + " TODO가 " + todo.getOffsetMinutes() + "분 후 시작합니다.";
+            String message = event.getOffsetMinutes() == 0
+                    ? "이벤트가 지금 시작합니다."
+                    : "이벤트가 '" + event.getOffsetMinutes() + "분 후' 시작합니다.";
 
-            Project project = projectRepository.findById(todo.getProjectId())
-                    .orElse(null);
-
-            notificationService.sendNotification(
-                    todo.getOwnerId(),
-                    "PRIVATE_TODO",
-                    todo.getId(),
-                    "곧 시작하는 TODO: " + todo.getTitle(),
-                    message,
-                    project,
-                    projectRepository.findNameById(todo.getProjectId())
-            );
+            for (User member : membersByEvent.getOrDefault(event.getId(), List.of())) {
+                drafts.add(Notification.builder()
+                        .userId(member.getId())
+                        .type("EVENT")
+                        .referenceId(event.getId())
+                        .remindAt(event.getRemindAt())
+                        .title("곧 시작하는 이벤트: " + event.getTitle())
+                        .message(message)
+                        .project(event.getProject())
+                        .projectName(event.getProject().getName())
+                        .build());
+            }
         }
     }
 
-    /**
-     * 이벤트 시간 변경 시 호출
-     * 기존 미발송 알림 삭제 후 offset 기준 새 알림 생성
-     */
-    @Transactional
-    public void handleEventTimeChange(Event event) {
-        // 기존 미발송 알림 삭제
-        notificationRepository.deleteAllByReferenceIdAndTypeAndIsReadFalse(event.getId(), "EVENT");
+    private void addTodoDrafts(List<Long> todoIds, List<Notification> drafts) {
+        List<PrivateTodo> todos = privateTodoRepository.findAllById(todoIds);
+        Map<Long, Project> projects = new HashMap<>();
+        for (Project project : projectRepository.findAllById(todos.stream().map(PrivateTodo::getProjectId).distinct().toList())) {
+            projects.put(project.getId(), project);
+        }
 
-        // 이벤트 멤버 가져오기
-        List<User> members = eventMemberRepository.findUsersByEventId(event.getId());
+        for (PrivateTodo todo : todos) {
+            if (todo.getOffsetMinutes() > MAX_OFFSET_MINUTES) continue;
 
-        for (User member : members) {
-            String message = event.getOffsetMinutes() == 0
-                    ? event.getTitle() + " 이벤트가 지금 시작합니다."
-                    : event.getTitle() + " 이벤트가 " + event.getOffsetMinutes() + "분 후 시작합니다.";
-
-            notificationService.sendNotification(
-                    member.getId(),
-                    "EVENT",
-                    event.getId(),
-                    "곧 시작하는 이벤트: " + event.getTitle(),
-                    message,
-                    event.getProject(),
-                    event.getProject().getName()
-            );
+            String message = todo.getOffsetMinutes() == 0
+                    ? todo.getTitle() + " TODO가 지금 시작합니다."
+                    : todo.getTitle() + " TODO가 " + todo.getOffsetMinutes() + "분 후 시작합니다.";
+
+            Project project = projects.get(todo.getProjectId());
+            drafts.add(Notification.builder()
+                    .userId(todo.getOwnerId())
+                    .type("PRIVATE_TODO")
+                    .referenceId(todo.getId())
+                    .remindAt(todo.getRemindAt())
+                    .title("곧 시작하는 TODO: " + todo.getTitle())
+                    .message(message)
+                    .project(project)
+                    .projectName(project != null ? project.getName() : null)
+                    .build());
         }
     }
 
-    /**
-     * PrivateTodo 시간 변경 시 호출
-     * 기존 미발송 알림 삭제 후 offset 기준 새 알림 생성
-     */
-    @Transactional
-    public void handlePrivateTodoTimeChange(PrivateTodo todo) {
-        notificationRepository.deleteAllByReferenceIdAndTypeAndIsReadFalse(todo.getId(), "PRIVATE_TODO");
-        String message = todo.getOffsetMinutes() == 0
-                ? todo.getTitle() + " TODO가 지금 시작합니다."
-                : todo.getTitle() + " TODO가 " + todo.getOffsetMinutes() + "분 후 시작합니다.";
-
-
-        Project project = projectRepository.findById(todo.getProjectId())
-                .orElse(null);
-
-        notificationService.sendNotification(
-                todo.getOwnerId(),
-                "PRIVATE_TODO",
-                todo.getId(),
-                "곧 시작하는 TODO: " + todo.getTitle(),
-                message,
-                project,
-                projectRepository.findNameById(todo.getProjectId())
-        );
+    // LocalDateTime.now() 와 같은 기준(서버 시간대)으로 변환
+    private static long toEpochSec(LocalDateTime t) {
+        return t.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    private static long nowSec() {
+        return toEpochSec(LocalDateTime.now());
     }
 }
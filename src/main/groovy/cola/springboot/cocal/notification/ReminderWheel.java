@@ -0,0 +1,106 @@
+package cola.springboot.cocal.notification;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 예약용 2단 타이밍 휠 (초 단위 60칸 + 분 단위 60칸 = 최대 1시간 앞까지)
+ * - 같은 키를 다시 예약하면 이전 예약은 무시됨 (발송 시점에 최신 예약 시각과 비교)
+ * - 1시간 넘게 남은 예약은 받지 않음 (주기적인 refill 에서 다시 넣어줌)
+ */
+final class ReminderWheel {
+    private static final int SLOTS = 60;
+
+    record Key(String type, Long referenceId) {}
+
+    private record Entry(Key key, long fireSec) {}
+
+    private final List<List<Entry>> seconds = newSlots();
+    private final List<List<Entry>> minutes = newSlots();
+    // 키별 최신 예약 시각 (epoch seconds)
+    private final Map<Key, Long> scheduled = new HashMap<>();
+    // 이미 지난 시각으로 예약된 것 (다음 advance 에서 바로 발송)
+    private final List<Entry> overdue = new ArrayList<>();
+    private long currentSec;
+
+    ReminderWheel(long nowSec) {
+        this.currentSec = nowSec;
+    }
+
+    // 예약 (기존 예약은 대체). 휠 범위를 벗어나면 false
+    synchronized boolean schedule(Key key, long fireSec) {
+        long delta = fireSec - currentSec;
+        if (delta >= 60 && fireSec / 60 - currentSec / 60 >= SLOTS) {
+            return false;
+        }
+
+        Long prev = scheduled.put(key, fireSec);
+        if (prev != null && prev == fireSec) {
+            return true; // 같은 시각으로 이미 예약됨
+        }
+
+        Entry entry = new Entry(key, fireSec);
+        if (delta <= 0) {
+            overdue.add(entry);
+        } else if (delta < 60) {
+            seconds.get((int) (fireSec % SLOTS)).add(entry);
+        } else {
+            minutes.get((int) ((fireSec / 60) % SLOTS)).add(entry);
+        }
+        return true;
+    }
+
+    // nowSec 까지 시계를 진행하고 발송할 키 반환
+    synchronized List<Key> advance(long nowSec) {
+        List<Key> due = new ArrayList<>();
+        drain(overdue, due);
+
+        // 오래 멈춰 있었다면 (1시간 이상) 남은 예약을 전부 꺼내고 시계를 맞춤
+        if (nowSec - currentSec >= (long) SLOTS * 60) {
+            seconds.forEach(slot -> drain(slot, due));
+            minutes.forEach(slot -> drain(slot, due));
+            currentSec = nowSec;
+            return due;
+        }
+
+        while (currentSec < nowSec) {
+            currentSec++;
+            // 분이 바뀌면 해당 분 칸을 초 단위 휠로 내림
+            if (currentSec % 60 == 0) {
+                List<Entry> slot = minutes.get((int) ((currentSec / 60) % SLOTS));
+                for (Entry entry : slot) {
+                    seconds.get((int) (entry.fireSec() % SLOTS)).add(entry);
+                }
+                slot.clear();
+            }
+            drain(seconds.get((int) (currentSec % SLOTS)), due);
+        }
+        return due;
+    }
+
+    synchronized int size() {
+        return scheduled.size();
+    }
+
+    // 최신 예약과 일치하는 항목만 꺼냄 (재예약/취소된 항목은 버림)
+    private void drain(List<Entry> slot, List<Key> due) {
+        for (Entry entry : slot) {
+            Long latest = scheduled.get(entry.key());
+            if (latest != null && latest == entry.fireSec()) {
+                scheduled.remove(entry.key());
+                due.add(entry.key());
+            }
+        }
+        slot.clear();
+    }
+
+    private static List<List<Entry>> newSlots() {
+        List<List<Entry>> slots = new ArrayList<>(SLOTS);
+        for (int i = 0; i < SLOTS; i++) {
+            slots.add(new ArrayList<>());
+        }
+        return slots;
+    }
+}
@@ -0,0 +1,302 @@
+package cola.springboot.cocal.notification;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * SSE 연결 관리
+ * - 사용자당 여러 연결(탭/기기)을 모두 유지하고 같은 알림을 전부에 전송
+ * - 연결마다 크기 제한 큐를 두고 별도 스레드에서 전송 (느린 클라이언트가 알림 발송 스레드를 막지 않도록)
+ *   큐가 가득 차면 새 이벤트는 버림
+ * - heartbeat 은 스케줄러 하나에서 전체 연결에 보냄
+ * - 연결 수/큐 길이/전송·버림·실패 수는 /actuator/metrics 의 sse.* 로 확인
+ */
+@Component
+public class SseHub implements MeterBinder {
+    private static final Logger log = LoggerFactory.getLogger(SseHub.class);
+
+    public record Stats(int users, int connections, long queued, long sent, long dropped, long failed) {}
+
+    // 큐에 넣는 전송 단위 (SseEventBuilder 는 한 번만 build 할 수 있어서 연결마다 새로 만듦)
+    // id 가 있으면 클라이언트 재연결 시 Last-Event-ID 로 돌아옴
+    private record Frame(Long id, String name, Object data) {
+        static final Frame PING = new Frame(null, null, null);
+
+        static Frame of(NotificationResponse response) {
+            return new Frame(response.getId(), "notification", response);
+        }
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment("ping");
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(data);
+            return id != null ? event.id(String.valueOf(id)) : event;
+        }
+    }
+
+    private final Map<Long, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+    private final int queueSize;
+    private final Executor sender;
+    private final ScheduledExecutorService heartbeat;
+
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    @Autowired
+    public SseHub(@Value("${app.notification.sse.timeout-minutes:10}") long timeoutMinutes,
+                  @Value("${app.notification.sse.heartbeat-seconds:25}") long heartbeatSeconds,
+                  @Value("${app.notification.sse.queue-size:64}") int queueSize,
+                  @Value("${app.notification.sse.sender-threads:2}") int senderThreads) {
+        this(TimeUnit.MINUTES.toMillis(timeoutMinutes), heartbeatSeconds, queueSize, newSender(senderThreads));
+    }
+
+    // sender 는 테스트에서 전송 시점을 직접 정하기 위한 것
+    SseHub(long timeoutMillis, long heartbeatSeconds, int queueSize, Executor sender) {
+        this.timeoutMillis = timeoutMillis;
+        this.queueSize = queueSize;
+        this.sender = sender;
+
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "sse-heartbeat");
+            t.setDaemon(true);
+            return t;
+        });
+        this.heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    // 연결당 drain 작업은 최대 1개라 작업 큐 길이는 연결 수를 넘지 않음
+    private static ThreadPoolExecutor newSender(int senderThreads) {
+        AtomicInteger seq = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(senderThreads, senderThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "sse-send-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    // 새 연결 등록 (기존 연결은 그대로 유지)
+    // replay 가 있으면 놓친 알림을 먼저 보내고, 그동안 들어온 실시간 알림은 중복을 빼고 그 뒤에 보냄
+    public SseEmitter connect(Long userId, Supplier<Replay> replay) {
+        SseEmitter emitter = createEmitter(timeoutMillis);
+        Connection connection = new Connection(userId, emitter, replay != null);
+        // 연결 직후 간단한 ping 이벤트
+        connection.offer(new Frame(null, "connect", "connected"));
+
+        connections.compute(userId, (k, set) -> {
+            Set<Connection> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(connection);
+            return target;
+        });
+
+        emitter.onCompletion(connection::remove);
+        emitter.onTimeout(connection::remove);
+        emitter.onError(e -> connection.remove());
+
+        if (replay != null) {
+            try {
+                connection.finishReplay(replay.get());
+            } catch (RuntimeException e) {
+                connection.finishReplay(new Replay(List.of(), true));
+                log.warn("SSE replay failed for user {}", userId, e);
+            }
+        }
+        return emitter;
+    }
+
+    // 알림 전송 (사용자의 모든 연결, 큐에만 넣고 바로 반환)
+    public void send(Long userId, NotificationResponse response) {
+        Set<Connection> userConnections = connections.get(userId);
+        if (userConnections == null) return;
+        Frame frame = Frame.of(response);
+        for (Connection connection : userConnections) {
+            connection.enqueue(frame);
+        }
+    }
+
+    public boolean hasConnections(Long userId) {
+        return connections.containsKey(userId);
+    }
+
+    public Stats stats() {
+        int connectionCount = 0;
+        long queued = 0;
+        for (Set<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                connectionCount++;
+                queued += connection.queue.size();
+            }
+        }
+        return new Stats(connections.size(), connectionCount, queued, sent.get(), dropped.get(), failed.get());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("sse.users", this, h -> h.stats().users()).register(registry);
+        Gauge.builder("sse.connections", this, h -> h.stats().connections()).register(registry);
+        Gauge.builder("sse.queued", this, h -> h.stats().queued()).register(registry);
+        FunctionCounter.builder("sse.frames", sent, AtomicLong::get).tag("result", "sent").register(registry);
+        FunctionCounter.builder("sse.frames", dropped, AtomicLong::get).tag("result", "dropped").register(registry);
+        FunctionCounter.builder("sse.frames", failed, AtomicLong::get).tag("result", "failed").register(registry);
+    }
+
+    // 테스트에서 보낸 이벤트를 확인하기 위해 바꿔 끼움
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void sendHeartbeats() {
+        try {
+            connections.values().forEach(userConnections -> userConnections.forEach(c -> c.enqueue(Frame.PING)));
+        } catch (Exception e) {
+            // 예외가 나가면 스케줄이 멈추므로 여기서 끊음
+            log.warn("SSE heartbeat failed", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+        if (sender instanceof ExecutorService executor) {
+            executor.shutdown();
+        }
+        connections.values().forEach(userConnections -> userConnections.forEach(c -> c.emitter.complete()));
+        connections.clear();
+    }
+
+    /**
+     * 재연결 시 보낼 놓친 알림
+     * @param truncated 개수 제한으로 일부만 담았으면 true (클라이언트에 resync 이벤트를 보내 전체 다시 조회하도록)
+     */
+    public record Replay(List<NotificationResponse> notifications, boolean truncated) {}
+
+    private final class Connection {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Frame> queue = new ArrayBlockingQueue<>(queueSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        // replay 중 들어온 실시간 알림 (replay 끝나면 큐로 옮김)
+        private List<Frame> held;
+
+        Connection(Long userId, SseEmitter emitter, boolean replaying) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.held = replaying ? new ArrayList<>() : null;
+        }
+
+        void enqueue(Frame frame) {
+            synchronized (this) {
+                if (held != null) {
+                    held.add(frame);
+                    return;
+                }
+            }
+            offer(frame);
+        }
+
+        synchronized void finishReplay(Replay replay) {
+            Set<Long> replayed = new HashSet<>();
+            for (NotificationResponse response : replay.notifications()) {
+                replayed.add(response.getId());
+                offer(Frame.of(response));
+            }
+            if (replay.truncated()) {
+                offer(new Frame(null, "resync", "truncated"));
+            }
+            for (Frame frame : held) {
+                if (frame.id() == null || !replayed.contains(frame.id())) {
+                    offer(frame);
+                }
+            }
+            held = null;
+        }
+
+        private void offer(Frame frame) {
+            if (closed) return;
+            if (!queue.offer(frame)) {
+                dropped.incrementAndGet();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) return;
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false); // 종료 중
+            }
+        }
+
+        private void drain() {
+            try {
+                Frame frame;
+                while (!closed && (frame = queue.poll()) != null) {
+                    try {
+                        emitter.send(frame.toEvent());
+                        sent.incrementAndGet();
+                    } catch (Exception e) {
+                        // 끊긴 연결은 정리하고 emitter 도 종료
+                        failed.incrementAndGet();
+                        remove();
+                        emitter.completeWithError(e);
+                        return;
+                    }
+                }
+            } finally {
+                draining.set(false);
+            }
+            // drain 끝난 직후 들어온 이벤트가 있으면 다시 예약
+            if (!closed && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        void remove() {
+            closed = true;
+            queue.clear();
+            connections.computeIfPresent(userId, (k, set) -> {
+                set.remove(this);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+}
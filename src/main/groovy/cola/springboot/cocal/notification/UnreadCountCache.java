@@ -0,0 +1,54 @@
+package cola.springboot.cocal.notification;
+
+import cola.springboot.cocal.common.util.LruTtlCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자별 읽지 않은 알림 개수 캐시 (배지 표시용)
+ * - 처음 조회 시 COUNT 로 채우고, 이후에는 알림 생성/읽음 처리 때 커밋 후 증감
+ * - 한 번에 여러 사용자의 알림을 지우는 경우처럼 정확한 증감을 알기 어려우면 항목을 지워 다음 조회 때 다시 셈
+ * - 다른 서버에서 생긴 변경은 알 수 없으므로 TTL 이 지나면 다시 셈
+ * - 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거(LRU)
+ */
+@Component
+public class UnreadCountCache {
+
+    private final LruTtlCache<Long, Long> cache;
+
+    @Autowired
+    public UnreadCountCache(@Value("${app.notification.unread-count.max-size:10000}") int maxSize,
+                            @Value("${app.notification.unread-count.ttl-seconds:60}") long ttlSeconds) {
+        this(maxSize, ttlSeconds, System::currentTimeMillis);
+    }
+
+    UnreadCountCache(int maxSize, long ttlSeconds, LongSupplier clock) {
+        this.cache = new LruTtlCache<>(maxSize, ttlSeconds * 1000L, clock);
+    }
+
+    // 캐시에 있으면 반환, 없으면 loader(COUNT)로 채워서 반환
+    public long get(Long userId, LongSupplier loader) {
+        return cache.get(userId, loader::getAsLong);
+    }
+
+    // 캐시에 있는 사용자만 증감 (없으면 다음 조회 때 COUNT 로 채움). TTL 은 처음 센 시각 기준 그대로
+    public void add(Long userId, long delta) {
+        cache.computeIfPresent(userId, count -> Math.max(0, count + delta));
+    }
+
+    // 전체 읽음 처리 후
+    public void reset(Long userId) {
+        cache.put(userId, 0L);
+    }
+
+    public void evict(Long userId) {
+        cache.remove(userId);
+    }
+
+    public LruTtlCache.Stats stats() {
+        return cache.stats();
+    }
+}
@@ -1,5 +1,6 @@
 package cola.springboot.cocal.project;
 
+import cola.springboot.cocal.cal.ProjectVersionTracker;
 import cola.springboot.cocal.common.exception.BusinessException;
 import cola.springboot.cocal.invite.InviteRepository;
 import cola.springboot.cocal.projectMember.ProjectMember;
@@ -25,6 +26,7 @@ public class ProjectService {
     private final ProjectMemberRepository projectMemberRepository;
     private final UserRepository userRepository;
     private final InviteRepository inviteRepository;
+    private final ProjectVersionTracker projectVersionTracker;
 
     // 프로젝트 생성
     @Transactional
@@ -248,6 +250,9 @@ public class ProjectService {
 
         project = projectRepository.save(project);
 
+        // 캘린더 캐시 무효화 (시작일 변경 반영)
+        projectVersionTracker.bump(projectId);
+
         // 멤버 정보 DTO
         List<ProjectMemberInfoDto> members = projectMemberRepository.findActiveMembersWithUser(project.getId())
                 .stream()
@@ -294,5 +299,8 @@ public class ProjectService {
 
         // 프로젝트 삭제
         projectRepository.delete(project);
+
+        // 캘린더 캐시 무효화
+        projectVersionTracker.bump(projectId);
     }
 }
@@ -5,6 +5,8 @@ import cola.springboot.cocal.invite.Invite;
 import cola.springboot.cocal.invite.InviteRepository;
 import cola.springboot.cocal.project.Project;
 import cola.springboot.cocal.project.ProjectRepository;
+import cola.springboot.cocal.realtime.ProjectChangePublisher;
+import cola.springboot.cocal.todo.agenda.AgendaItemRepository;
 import cola.springboot.cocal.user.User;
 import cola.springboot.cocal.user.UserRepository;
 import jakarta.transaction.Transactional;
@@ -22,6 +24,8 @@ public class ProjectMemberService {
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final InviteRepository inviteRepository;
+    private final AgendaItemRepository agendaItemRepository;
+    private final ProjectChangePublisher projectChangePublisher;
 
     // 팀원 강제 추방
     @Transactional
@@ -60,6 +64,9 @@ public class ProjectMemberService {
         pm.setStatus(ProjectMember.MemberStatus.KICKED);
         pm.setUpdatedAt(LocalDateTime.now());
         projectMemberRepository.save(pm);
+        agendaItemRepository.deleteEventTodosForMember(projectId, targetUserId);
+        projectChangePublisher.publishAfterCommit(projectId, "MEMBER", "DELETED", targetUserId, actorUserId);
+        projectChangePublisher.unsubscribeAfterCommit(projectId, targetUserId);
 
         return String.format("'%s' 님을 '%s' 프로젝트에서 추방했습니다.", targetUser.get().getName(), project.getName());
     }
@@ -92,6 +99,9 @@ public class ProjectMemberService {
         pm.setStatus(ProjectMember.MemberStatus.LEFT);
         pm.setUpdatedAt(LocalDateTime.now());
         projectMemberRepository.save(pm);
+        agendaItemRepository.deleteEventTodosForMember(projectId, actorUserId);
+        projectChangePublisher.publishAfterCommit(projectId, "MEMBER", "DELETED", actorUserId, actorUserId);
+        projectChangePublisher.unsubscribeAfterCommit(projectId, actorUserId);
 
         return String.format("'%s' 프로젝트에서 나왔습니다.", project.getName());
     }
@@ -0,0 +1,15 @@
+package cola.springboot.cocal.realtime;
+
+/**
+ * 프로젝트 토픽(/topic/projects/{projectId})으로 보내는 변경 알림
+ * - 내용은 담지 않고 무엇이 바뀌었는지만 전달 (클라이언트가 해당 항목만 다시 조회)
+ *
+ * @param type     EVENT / MEMO / EVENT_TODO / MEMBER
+ * @param action   CREATED / UPDATED / DELETED
+ * @param id       바뀐 항목 ID (MEMBER 는 사용자 ID)
+ * @param parentId EVENT_TODO 일 때 이벤트 ID (그 외 null)
+ * @param actorId  변경한 사용자 ID
+ */
+public record ProjectChangeMessage(Long projectId, String type, String action,
+                                   Long id, Long parentId, Long actorId) {
+}
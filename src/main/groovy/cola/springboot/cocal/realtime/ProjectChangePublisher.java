@@ -0,0 +1,79 @@
+package cola.springboot.cocal.realtime;
+
+import cola.springboot.cocal.common.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpSession;
+import org.springframework.messaging.simp.user.SimpSubscription;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로젝트 변경을 STOMP 토픽으로 전송 (커밋 후)
+ * - 열려 있는 캘린더는 전체를 다시 받지 않고 바뀐 항목만 반영
+ * - 멤버십은 SUBSCRIBE 때만 확인하므로, 추방/탈퇴 시 그 사용자의 구독은 여기서 해제
+ * - 단순 브로커는 서버마다 따로라서 이 서버에 연결된 세션에만 전달/해제됨
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectChangePublisher {
+    private static final Logger log = LoggerFactory.getLogger(ProjectChangePublisher.class);
+    public static final String TOPIC_PREFIX = "/topic/projects/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry simpUserRegistry;
+
+    public void publishAfterCommit(Long projectId, String type, String action, Long id, Long actorId) {
+        publishAfterCommit(projectId, type, action, id, null, actorId);
+    }
+
+    public void publishAfterCommit(Long projectId, String type, String action, Long id, Long parentId, Long actorId) {
+        ProjectChangeMessage message = new ProjectChangeMessage(projectId, type, action, id, parentId, actorId);
+        TransactionUtils.afterCommit(() -> {
+            try {
+                messagingTemplate.convertAndSend(TOPIC_PREFIX + projectId, message);
+            } catch (Exception e) {
+                // 실시간 전송 실패는 저장 결과에 영향 주지 않음
+                log.warn("Project change publish failed: {}", message, e);
+            }
+        });
+    }
+
+    /**
+     * 커밋 후 사용자의 /topic/projects/{projectId} 구독 해제 (추방/탈퇴)
+     * 브로커 채널로 UNSUBSCRIBE 를 보내면 단순 브로커가 구독 목록에서 지움 (다시 구독하면 SUBSCRIBE 검사에서 막힘)
+     * 변경 전송(MEMBER DELETED)보다 뒤에 등록해야 본인도 그 메시지는 받음
+     */
+    public void unsubscribeAfterCommit(Long projectId, Long userId) {
+        String destination = TOPIC_PREFIX + projectId;
+        TransactionUtils.afterCommit(() -> {
+            SimpUser user = simpUserRegistry.getUser(String.valueOf(userId));
+            if (user == null) return;
+            try {
+                for (SimpSession session : user.getSessions()) {
+                    for (SimpSubscription subscription : session.getSubscriptions()) {
+                        if (destination.equals(subscription.getDestination())) {
+                            unsubscribe(session.getId(), subscription.getId());
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("Project unsubscribe failed: project {}, user {}", projectId, userId, e);
+            }
+        });
+    }
+
+    private void unsubscribe(String sessionId, String subscriptionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.getMessageChannel().send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+}
@@ -1,6 +1,7 @@
 package cola.springboot.cocal.todo;
 
 import cola.springboot.cocal.common.api.ApiResponse;
+import cola.springboot.cocal.common.util.ETagUtils;
 import cola.springboot.cocal.todo.dto.TodoListResponse;
 import cola.springboot.cocal.todo.dto.TodoRequest;
 import cola.springboot.cocal.todo.dto.TodoResponse;
@@ -8,11 +9,14 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.function.Supplier;
 
 @RestController
 @RequiredArgsConstructor
@@ -50,8 +54,8 @@ public class TodoController {
             HttpServletRequest httpReq
     ) {
         Long userId = Long.parseLong(authentication.getName());
-        TodoResponse response = todoService.getPrivateTodo(projectId, userId, todoId);
-        return ResponseEntity.ok(ApiResponse.ok(response, httpReq.getRequestURI()));
+        return conditionalGet(projectId, userId, httpReq,
+                () -> todoService.getPrivateTodo(projectId, userId, todoId));
     }
 
     // 해당 날짜의 개인 TODO 조회
@@ -63,8 +67,8 @@ public class TodoController {
             HttpServletRequest httpReq
     ) {
         Long userId = Long.parseLong(authentication.getName());
-        TodoListResponse response = todoService.getPrivateDateTodo(projectId, userId, date);
-        return ResponseEntity.ok(ApiResponse.ok(response, httpReq.getRequestURI()));
+        return conditionalGet(projectId, userId, httpReq,
+                () -> todoService.getPrivateDateTodo(projectId, userId, date));
     }
 
     // 이벤트 TODO 단건 조회
@@ -77,8 +81,8 @@ public class TodoController {
             HttpServletRequest httpReq
     ) {
         Long userId = Long.parseLong(authentication.getName());
-        TodoResponse response = todoService.getEventTodo(projectId, userId, eventId, todoId);
-        return ResponseEntity.ok(ApiResponse.ok(response, httpReq.getRequestURI()));
+        return conditionalGet(projectId, userId, httpReq,
+                () -> todoService.getEventTodo(projectId, userId, eventId, todoId));
     }
 
     // 해당 날짜의 이벤트 TODO 조회
@@ -91,8 +95,8 @@ public class TodoController {
     ) {
         Long userId = Long.parseLong(authentication.getName());
 
-        TodoListResponse response = todoService.getEventDateTodo(projectId, userId, date);
-        return ResponseEntity.ok(ApiResponse.ok(response, httpReq.getRequestURI()));
+        return conditionalGet(projectId, userId, httpReq,
+                () -> todoService.getEventDateTodo(projectId, userId, date));
     }
 
     // 해당 이벤트에 종속된 이벤트 TODO 모두 조회
@@ -104,8 +108,8 @@ public class TodoController {
             HttpServletRequest httpReq
     ) {
         Long userId = Long.parseLong(authentication.getName());
-        TodoListResponse response = todoService.getEventTodoAll(projectId, userId, eventId);
-        return ResponseEntity.ok(ApiResponse.ok(response, httpReq.getRequestURI()));
+        return conditionalGet(projectId, userId, httpReq,
+                () -> todoService.getEventTodoAll(projectId, userId, eventId));
     }
 
     /**
@@ -148,4 +152,17 @@ public class TodoController {
 
         return ResponseEntity.ok(ApiResponse.ok("TODO가 삭제되었습니다.", httpReq.getRequestURI()));
     }
+
+    // If-None-Match가 현재 ETag와 같으면 조회 없이 304, 아니면 조회 결과에 ETag를 붙여서 반환
+    private <T> ResponseEntity<ApiResponse<T>> conditionalGet(
+            Long projectId, Long userId, HttpServletRequest httpReq, Supplier<T> loader) {
+        String etag = todoService.getTodoEtag(projectId, userId);
+        if (etag == null) {
+            return ResponseEntity.ok(ApiResponse.ok(loader.get(), httpReq.getRequestURI()));
+        }
+        if (ETagUtils.matches(httpReq.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(ApiResponse.ok(loader.get(), httpReq.getRequestURI()));
+    }
 }
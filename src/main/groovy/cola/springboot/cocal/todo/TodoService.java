@@ -1,6 +1,12 @@
 package cola.springboot.cocal.todo;
 
+import cola.springboot.cocal.cal.ActiveDaysService;
+import cola.springboot.cocal.cal.CalTombstone;
+import cola.springboot.cocal.cal.CalTombstoneRepository;
+import cola.springboot.cocal.cal.ProjectVersionTracker;
 import cola.springboot.cocal.common.exception.BusinessException;
+import cola.springboot.cocal.common.util.ETagUtils;
+import cola.springboot.cocal.common.util.TransactionUtils;
 import cola.springboot.cocal.event.Event;
 import cola.springboot.cocal.event.EventRepository;
 import cola.springboot.cocal.notification.ReminderService;
@@ -8,6 +14,8 @@ import cola.springboot.cocal.project.Project;
 import cola.springboot.cocal.project.ProjectRepository;
 import cola.springboot.cocal.projectMember.ProjectMember;
 import cola.springboot.cocal.projectMember.ProjectMemberRepository;
+import cola.springboot.cocal.realtime.ProjectChangePublisher;
+import cola.springboot.cocal.todo.agenda.AgendaItemRepository;
 import cola.springboot.cocal.todo.dto.TodoItemResponse;
 import cola.springboot.cocal.todo.dto.TodoListResponse;
 import cola.springboot.cocal.todo.dto.TodoRequest;
@@ -40,6 +48,11 @@ public class TodoService {
     private final EventTodoRepository eventTodoRepository;
     private final ProjectMemberRepository projectMemberRepository;
     private final ReminderService privateReminderService;
+    private final ProjectVersionTracker projectVersionTracker;
+    private final CalTombstoneRepository calTombstoneRepository;
+    private final ActiveDaysService activeDaysService;
+    private final AgendaItemRepository agendaItemRepository;
+    private final ProjectChangePublisher projectChangePublisher;
 
     /*
         TODO 생성
@@ -83,6 +96,13 @@ public class TodoService {
                     .build();
 
             todo = privateTodoRepository.save(todo);
+            agendaItemRepository.upsertPrivateTodo(todo.getId());
+            bumpPrivateTodoVersion(projectId, userId);
+            activeDaysService.refreshPrivateAfterCommit(projectId, userId, todo.getDate());
+
+            // 알림 예약 (커밋 후)
+            PrivateTodo saved = todo;
+            TransactionUtils.afterCommit(() -> privateReminderService.schedulePrivateTodo(saved));
             return TodoResponse.fromPrivateTodo(todo);
 
         }
@@ -111,12 +131,31 @@ public class TodoService {
                     .build();
 
             todo = eventTodoRepository.save(todo);
+            agendaItemRepository.upsertEventTodo(todo.getId());
+            projectVersionTracker.bumpTodos(event.getProject().getId());
+            activeDaysService.refreshSharedAfterCommit(event.getProject().getId(), event.getStartAt(), event.getEndAt());
+            projectChangePublisher.publishAfterCommit(event.getProject().getId(), "EVENT_TODO", "CREATED", todo.getId(), todo.getEventId(), userId);
             return TodoResponse.fromEventTodo(todo);
         }
 
         throw new BusinessException(HttpStatus.BAD_REQUEST, "INVALID_TYPE", "유효하지 않은 TODO 타입입니다. PRIVATE 또는 EVENT만 가능합니다.");
     }
 
+    /*
+        TODO 조회용 ETag
+        - 이벤트 변경(제목/삭제 등)도 TODO 응답에 영향을 주므로 캘린더 버전까지 포함
+        - 활성 멤버가 아니면 null (조건부 처리 없이 기존 조회 로직에서 에러 처리)
+    */
+    @Transactional(readOnly = true)
+    public String getTodoEtag(Long projectId, Long userId) {
+        boolean isMember = projectMemberRepository.existsByProjectIdAndUserIdAndStatus(projectId, userId, ProjectMember.MemberStatus.ACTIVE);
+        if (!isMember) {
+            return null;
+        }
+        ProjectVersionTracker.TodoVersions v = projectVersionTracker.currentTodoVersions(projectId, userId);
+        return ETagUtils.strong("todo", projectId, v.calendar(), v.todos(), v.userTodos());
+    }
+
     /*
         TODO 조회-private
     */
@@ -317,6 +356,7 @@ public class TodoService {
                 throw new BusinessException(HttpStatus.FORBIDDEN, "FORBIDDEN", "본인 TODO만 수정할 수 있습니다.");
             }
 
+            LocalDateTime oldDate = todo.getDate();
             LocalDateTime newDate = request.getDate(); // request.getDate() 타입이 LocalDateTime이라면 바로 사용
             // 시간 변경 여부 확인 (date, offsetMinutes)
             boolean isTimeChanged = !todo.getDate().equals(newDate)
@@ -332,6 +372,12 @@ public class TodoService {
             todo.setOrderNo(request.getOrderNo() != null ? request.getOrderNo() : 0);
 
             todo = privateTodoRepository.save(todo);
+            agendaItemRepository.upsertPrivateTodo(todo.getId());
+            bumpPrivateTodoVersion(projectId, userId);
+            activeDaysService.refreshPrivateAfterCommit(projectId, userId, oldDate);
+            if (isTimeChanged) {
+                activeDaysService.refreshPrivateAfterCommit(projectId, userId, newDate);
+            }
 
             // 시간 변경 시 알림 재등록
             if (isTimeChanged) {
@@ -364,6 +410,13 @@ public class TodoService {
                 throw new BusinessException(HttpStatus.BAD_REQUEST, "INVALID_RELATION", "이 TODO는 해당 프로젝트에 속하지 않는 이벤트에 연결될 수 없습니다.");
             }
 
+            // 이벤트가 바뀌면 이전 이벤트 기간도 active-days 재계산
+            Event oldEvent = todo.getEvent();
+            if (oldEvent != null && !oldEvent.getId().equals(newEvent.getId())) {
+                activeDaysService.refreshSharedAfterCommit(oldEvent.getProject().getId(), oldEvent.getStartAt(), oldEvent.getEndAt());
+                activeDaysService.refreshSharedAfterCommit(projectId, newEvent.getStartAt(), newEvent.getEndAt());
+            }
+
             // eventId가 바뀌었으면 새 이벤트로 업데이트
             todo.setEventId(request.getEventId());
 
@@ -376,6 +429,9 @@ public class TodoService {
             todo.setOrderNo(request.getOrderNo() != null ? request.getOrderNo() : 0);
 
             todo = eventTodoRepository.save(todo);
+            agendaItemRepository.upsertEventTodo(todo.getId());
+            projectVersionTracker.bumpTodos(projectId);
+            projectChangePublisher.publishAfterCommit(projectId, "EVENT_TODO", "UPDATED", todo.getId(), todo.getEventId(), userId);
 
             return TodoResponse.fromEventTodo(todo);
         }
@@ -400,6 +456,9 @@ public class TodoService {
             }
 
             privateTodoRepository.delete(todo);
+            activeDaysService.refreshPrivateAfterCommit(projectId, userId, todo.getDate());
+            calTombstoneRepository.save(CalTombstone.ofPrivateTodo(projectId, todoId, userId));
+            bumpPrivateTodoVersion(projectId, userId);
         }
         else if ("EVENT".equalsIgnoreCase(type)) {
             if (eventId == null) {
@@ -424,9 +483,19 @@ public class TodoService {
             }
 
             eventTodoRepository.delete(todo);
+            activeDaysService.refreshSharedAfterCommit(projectId, event.getStartAt(), event.getEndAt());
+            calTombstoneRepository.save(CalTombstone.of(projectId, CalTombstone.ItemType.EVENT_TODO, todoId));
+            projectVersionTracker.bumpTodos(projectId);
+            projectChangePublisher.publishAfterCommit(projectId, "EVENT_TODO", "DELETED", todoId, eventId, userId);
         }
         else {
             throw new BusinessException(HttpStatus.BAD_REQUEST, "INVALID_TYPE", "유효하지 않은 TODO 타입입니다. PRIVATE 또는 EVENT만 가능합니다.");
         }
     }
+
+    // 개인 TODO 변경 시 프로젝트 TODO 버전 + 사용자 개인 TODO 버전 증가
+    private void bumpPrivateTodoVersion(Long projectId, Long userId) {
+        projectVersionTracker.bumpTodos(projectId);
+        projectVersionTracker.bumpUserTodos(userId);
+    }
 }
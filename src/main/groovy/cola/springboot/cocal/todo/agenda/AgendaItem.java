@@ -0,0 +1,65 @@
+package cola.springboot.cocal.todo.agenda;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 사용자별 TODO 목록 프로젝션 (쓰기는 AgendaItemRepository의 native upsert로만)
+@Entity
+@Table(name = "agenda_items",
+        indexes = {
+                @Index(name = "idx_ai_user_project_date", columnList = "user_id, project_id, date"),
+                @Index(name = "idx_ai_project_type", columnList = "project_id, item_type"),
+                @Index(name = "idx_ai_event", columnList = "event_id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AgendaItem {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "item_type", nullable = false, length = 10)
+    private String itemType;    // PRIVATE / EVENT
+
+    @Column(name = "private_todo_id")
+    private Long privateTodoId;
+
+    @Column(name = "event_todo_id")
+    private Long eventTodoId;
+
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(length = 2048)
+    private String url;
+
+    private LocalDateTime date;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "offset_minutes", nullable = false)
+    private Integer offsetMinutes;
+
+    @Column(name = "order_no", nullable = false)
+    private Integer orderNo;
+
+    // 원본 TODO id (타입에 따라)
+    public Long getTodoId() {
+        return "PRIVATE".equals(itemType) ? privateTodoId : eventTodoId;
+    }
+}
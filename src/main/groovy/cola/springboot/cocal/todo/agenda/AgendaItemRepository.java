@@ -0,0 +1,76 @@
+package cola.springboot.cocal.todo.agenda;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AgendaItemRepository extends JpaRepository<AgendaItem, Long> {
+
+    // 사용자의 프로젝트 TODO 목록 (개인 → 이벤트 순, idx_ai_user_project_date 사용)
+    @Query("""
+        select a
+        from AgendaItem a
+        where a.userId = :userId
+          and a.projectId = :projectId
+        order by case when a.itemType = 'PRIVATE' then 0 else 1 end, a.date asc, a.id asc
+    """)
+    List<AgendaItem> findAllByUserIdAndProjectId(@Param("userId") Long userId,
+                                                 @Param("projectId") Long projectId);
+
+    // 개인 TODO 반영 (생성/수정)
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO agenda_items (user_id, project_id, item_type, private_todo_id, title, description, url, date, status, offset_minutes, order_no)
+        SELECT t.owner_id, t.project_id, 'PRIVATE', t.id, t.title, t.description, t.url, t.date, t.status, t.offset_minutes, t.order_no
+        FROM private_todos t
+        WHERE t.id = :todoId
+        ON CONFLICT (private_todo_id) DO UPDATE
+            SET project_id = EXCLUDED.project_id, title = EXCLUDED.title, description = EXCLUDED.description, url = EXCLUDED.url,
+                date = EXCLUDED.date, status = EXCLUDED.status,
+                offset_minutes = EXCLUDED.offset_minutes, order_no = EXCLUDED.order_no
+        """, nativeQuery = true)
+    int upsertPrivateTodo(@Param("todoId") Long todoId);
+
+    // 이벤트 TODO 반영 (생성/수정) - 프로젝트 ACTIVE 멤버마다 1행
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO agenda_items (user_id, project_id, item_type, event_todo_id, event_id, title, description, url, date, status, offset_minutes, order_no)
+        SELECT pm.user_id, e.project_id, 'EVENT', et.id, e.id, et.title, et.description, et.url, e.start_at, et.status, et.offset_minutes, et.order_no
+        FROM event_todos et
+        JOIN events e ON e.id = et.event_id
+        JOIN project_members pm ON pm.project_id = e.project_id AND pm.status = 'ACTIVE'
+        WHERE et.id = :todoId
+        ON CONFLICT (event_todo_id, user_id) DO UPDATE
+            SET project_id = EXCLUDED.project_id, event_id = EXCLUDED.event_id,
+                title = EXCLUDED.title, description = EXCLUDED.description, url = EXCLUDED.url,
+                date = EXCLUDED.date, status = EXCLUDED.status,
+                offset_minutes = EXCLUDED.offset_minutes, order_no = EXCLUDED.order_no
+        """, nativeQuery = true)
+    int upsertEventTodo(@Param("todoId") Long todoId);
+
+    // 이벤트 시작 시각 변경 반영
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE agenda_items SET date = :startAt WHERE event_id = :eventId", nativeQuery = true)
+    int updateEventDate(@Param("eventId") Long eventId, @Param("startAt") LocalDateTime startAt);
+
+    // 새 멤버에게 프로젝트의 기존 이벤트 TODO 채우기
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO agenda_items (user_id, project_id, item_type, event_todo_id, event_id, title, description, url, date, status, offset_minutes, order_no)
+        SELECT :userId, e.project_id, 'EVENT', et.id, e.id, et.title, et.description, et.url, e.start_at, et.status, et.offset_minutes, et.order_no
+        FROM event_todos et
+        JOIN events e ON e.id = et.event_id
+        WHERE e.project_id = :projectId
+        ON CONFLICT (event_todo_id, user_id) DO NOTHING
+        """, nativeQuery = true)
+    int fillEventTodosForMember(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
+    // 탈퇴/추방된 멤버의 이벤트 TODO 제거
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM agenda_items WHERE project_id = :projectId AND user_id = :userId AND item_type = 'EVENT'", nativeQuery = true)
+    int deleteEventTodosForMember(@Param("projectId") Long projectId, @Param("userId") Long userId);
+}
@@ -35,4 +35,18 @@ public interface EventTodoRepository extends JpaRepository<EventTodo, Long> {
             @Param("end") LocalDateTime end
     );
 
+    // 프로젝트 이벤트 TODO 중 since 이후 생성/수정된 것
+    @Query("""
+        select et
+        from EventTodo et
+        join fetch et.event e
+        where e.project.id = :projectId
+          and et.updatedAt > :since
+        order by et.updatedAt asc, et.id asc
+    """)
+    List<EventTodo> findProjectEventTodosUpdatedAfter(
+            @Param("projectId") Long projectId,
+            @Param("since") LocalDateTime since
+    );
+
 }
@@ -7,6 +7,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Entity
 @Table(name = "private_todos",
@@ -52,6 +53,14 @@ public class PrivateTodo {
     @Column(name = "order_no", nullable = false)
     private Integer orderNo = 0;
 
+    // 알림 시각 (date - offsetMinutes), 저장 시 자동 계산
+    @Column(name = "remind_at")
+    private LocalDateTime remindAt;
+
+    // 알림 발송 여부 (알림 시각이 바뀌면 다시 false)
+    @Column(name = "reminder_sent", nullable = false)
+    private boolean reminderSent = false;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -60,6 +69,18 @@ public class PrivateTodo {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @PrePersist
+    @PreUpdate
+    private void syncRemindAt() {
+        LocalDateTime next = date != null
+                ? date.minusMinutes(offsetMinutes != null ? offsetMinutes : 0)
+                : null;
+        if (!Objects.equals(next, remindAt)) {
+            remindAt = next;
+            reminderSent = false;
+        }
+    }
+
     public enum TodoStatus {
         IN_PROGRESS,
         DONE
@@ -2,6 +2,7 @@ package cola.springboot.cocal.todo.private_todo;
 
 import cola.springboot.cocal.event.Event;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -10,6 +11,8 @@ import java.util.List;
 
 public interface PrivateTodoRepository extends JpaRepository<PrivateTodo, Long>{
     List<PrivateTodo> findAllByOwnerId(Long ownerId);
+    // 프로젝트 내 본인 TODO 중 since 이후 생성/수정된 것
+    List<PrivateTodo> findAllByProjectIdAndOwnerIdAndUpdatedAtAfter(Long projectId, Long ownerId, LocalDateTime since);
     // [start, end) 범위 조회
     List<PrivateTodo> findAllByProjectIdAndOwnerIdAndDateGreaterThanEqualAndDateLessThan(
             Long projectId,
@@ -18,26 +21,23 @@ public interface PrivateTodoRepository extends JpaRepository<PrivateTodo, Long>{
             LocalDateTime end
     );
 
-    /**
-     * 현재 시각(now)을 기준으로 offsetMinutes 만큼 남은 개인 TODO를 조회
-     *
-     * 조건:
-     * 1. TODO 날짜(date)가 NULL이 아닌 경우
-     * 2. TODO 날짜(date)가 현재 시각부터 1시간 이내인 경우
-     * 3. TODO 시작 시간 - 현재 시각을 분 단위로 계산했을 때
-     *    offset_minutes 이하이면서 offset_minutes - 1 초과인 경우
-     *    (즉, offset_minutes 분 남은 시점에 알림을 보내기 위함)
-     *
-     * @param now 조회 기준 시각
-     * @return offset 기준으로 곧 시작할 개인 TODO 리스트
-     */
-    @Query(value = """
-    SELECT *
-    FROM private_todos p
-    WHERE p.date IS NOT NULL
-      AND p.date BETWEEN CAST(:now AS timestamp) AND (CAST(:now AS timestamp) + INTERVAL '1 hour')
-      AND EXTRACT(EPOCH FROM (p.date - CAST(:now AS timestamp))) / 60 <= p.offset_minutes
-      AND EXTRACT(EPOCH FROM (p.date - CAST(:now AS timestamp))) / 60 > p.offset_minutes - 1
-    """, nativeQuery = true)
-    List<PrivateTodo> findTodosStartingAfterOffset(@Param("now") LocalDateTime now);
+    // 알림 휠 refill 용: 알림 시각이 [from, to) 이고 아직 발송 안 된 개인 TODO (idx_pt_remind_unsent)
+    @Query("""
+        SELECT p FROM PrivateTodo p
+        WHERE p.reminderSent = false
+          AND p.remindAt >= :from
+          AND p.remindAt < :to
+    """)
+    List<PrivateTodo> findUnsentRemindersBetween(@Param("from") LocalDateTime from,
+                                                 @Param("to") LocalDateTime to);
+
+    // 알림 발송 선점: 알림 시각이 지났고 아직 발송 안 된 경우에만 true 로 바꿈 (서버 여러 대 중복 방지)
+    @Modifying
+    @Query("""
+        UPDATE PrivateTodo p SET p.reminderSent = true
+        WHERE p.id = :id
+          AND p.reminderSent = false
+          AND p.remindAt <= :now
+    """)
+    int claimReminder(@Param("id") Long id, @Param("now") LocalDateTime now);
 }
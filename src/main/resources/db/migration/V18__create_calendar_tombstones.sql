@@ -0,0 +1,24 @@
+-- V18__create_calendar_tombstones.sql
+-- 캘린더 증분 동기화용: 삭제된 항목 기록 (tombstone)
+CREATE TABLE calendar_tombstones (
+    id BIGSERIAL PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    item_type VARCHAR(20) NOT NULL
+        CHECK (item_type IN ('EVENT','MEMO','PRIVATE_TODO','EVENT_TODO')),
+    item_id BIGINT NOT NULL,
+    owner_id BIGINT,                     -- PRIVATE_TODO일 때 소유자 (본인에게만 노출)
+    deleted_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+
+    CONSTRAINT fk_ct_project FOREIGN KEY (project_id) REFERENCES projects(id)
+        ON UPDATE CASCADE ON DELETE CASCADE
+);
+
+-- 프로젝트별 변경분 조회 / 보관기간 지난 tombstone 정리
+CREATE INDEX idx_ct_project_deleted ON calendar_tombstones(project_id, deleted_at);
+CREATE INDEX idx_ct_deleted ON calendar_tombstones(deleted_at);
+
+-- updated_at 기준 변경분 조회용 인덱스
+CREATE INDEX idx_ev_project_updated ON events(project_id, updated_at);
+CREATE INDEX idx_memos_project_updated ON memos(project_id, updated_at);
+CREATE INDEX idx_pt_project_owner_updated ON private_todos(project_id, owner_id, updated_at);
+CREATE INDEX idx_et_event_updated ON event_todos(event_id, updated_at);
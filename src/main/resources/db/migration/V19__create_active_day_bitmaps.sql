@@ -0,0 +1,13 @@
+-- V19__create_active_day_bitmaps.sql
+-- 월별 TODO 있는 날짜 비트맵 (active-days 조회용)
+CREATE TABLE active_day_bitmaps (
+    project_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,                  -- 0: 프로젝트 공용(이벤트 TODO), 그 외: 해당 사용자의 개인 TODO
+    month_start DATE NOT NULL,                -- KST 기준 월 1일
+    day_bits INTEGER NOT NULL DEFAULT 0,      -- (d-1)번째 비트 = d일에 TODO 있음
+    computed_at TIMESTAMPTZ(6) NOT NULL DEFAULT now(),
+
+    CONSTRAINT pk_active_day_bitmaps PRIMARY KEY (project_id, user_id, month_start),
+    CONSTRAINT fk_adb_project FOREIGN KEY (project_id) REFERENCES projects(id)
+        ON UPDATE CASCADE ON DELETE CASCADE
+);
@@ -0,0 +1,3 @@
+-- V20__add_event_keyset_index.sql
+-- 이벤트 목록 키셋 페이지네이션 (project_id, start_at, id) 순 조회용
+CREATE INDEX idx_ev_project_start_id ON events(project_id, start_at, id);
@@ -0,0 +1,52 @@
+-- V21__create_agenda_items.sql
+-- 사용자별 TODO 목록 프로젝션 (캘린더 왼쪽 하단 TODO 목록 조회용)
+-- 개인 TODO: 소유자 1행 / 이벤트 TODO: 프로젝트 ACTIVE 멤버마다 1행
+CREATE TABLE agenda_items (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    item_type VARCHAR(10) NOT NULL CHECK (item_type IN ('PRIVATE','EVENT')),
+    private_todo_id BIGINT,
+    event_todo_id BIGINT,
+    event_id BIGINT,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    url VARCHAR(2048),
+    date TIMESTAMP(6),                        -- 개인 TODO: 날짜, 이벤트 TODO: 이벤트 시작 시각
+    status VARCHAR(20) NOT NULL,
+    offset_minutes INT NOT NULL DEFAULT 0,
+    order_no INT NOT NULL DEFAULT 0,
+
+    CONSTRAINT fk_ai_user FOREIGN KEY (user_id) REFERENCES users(id)
+        ON UPDATE CASCADE ON DELETE CASCADE,
+    CONSTRAINT fk_ai_project FOREIGN KEY (project_id) REFERENCES projects(id)
+        ON UPDATE CASCADE ON DELETE CASCADE,
+    CONSTRAINT fk_ai_private_todo FOREIGN KEY (private_todo_id) REFERENCES private_todos(id)
+        ON UPDATE CASCADE ON DELETE CASCADE,
+    CONSTRAINT fk_ai_event_todo FOREIGN KEY (event_todo_id) REFERENCES event_todos(id)
+        ON UPDATE CASCADE ON DELETE CASCADE,
+    CONSTRAINT ck_ai_source CHECK (
+        (item_type = 'PRIVATE' AND private_todo_id IS NOT NULL AND event_todo_id IS NULL)
+     OR (item_type = 'EVENT' AND event_todo_id IS NOT NULL AND private_todo_id IS NULL)
+    ),
+    CONSTRAINT uk_ai_private_todo UNIQUE (private_todo_id),
+    CONSTRAINT uk_ai_event_todo_user UNIQUE (event_todo_id, user_id)
+);
+
+-- 사용자 + 프로젝트 TODO 목록 조회
+CREATE INDEX idx_ai_user_project_date ON agenda_items(user_id, project_id, date);
+-- 멤버 탈퇴 시 정리 / 이벤트 시간 변경 반영
+CREATE INDEX idx_ai_project_type ON agenda_items(project_id, item_type);
+CREATE INDEX idx_ai_event ON agenda_items(event_id);
+
+-- 기존 데이터 채우기
+INSERT INTO agenda_items (user_id, project_id, item_type, private_todo_id, title, description, url, date, status, offset_minutes, order_no)
+SELECT t.owner_id, t.project_id, 'PRIVATE', t.id, t.title, t.description, t.url, t.date, t.status, t.offset_minutes, t.order_no
+FROM private_todos t;
+
+INSERT INTO agenda_items (user_id, project_id, item_type, event_todo_id, event_id, title, description, url, date, status, offset_minutes, order_no)
+SELECT pm.user_id, e.project_id, 'EVENT', et.id, e.id, et.title, et.description, et.url, e.start_at, et.status, et.offset_minutes, et.order_no
+FROM event_todos et
+JOIN events e ON e.id = et.event_id
+JOIN project_members pm ON pm.project_id = e.project_id AND pm.status = 'ACTIVE'
+ON CONFLICT (event_todo_id, user_id) DO NOTHING;
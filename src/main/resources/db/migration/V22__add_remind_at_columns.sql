@@ -0,0 +1,23 @@
+-- V22__add_remind_at_columns.sql
+-- 알림 시각(시작 - offset)을 미리 계산해 저장하고, 미발송 건만 부분 인덱스로 조회
+
+ALTER TABLE events
+    ADD COLUMN remind_at TIMESTAMP(6),
+    ADD COLUMN reminder_sent BOOLEAN NOT NULL DEFAULT FALSE;
+
+ALTER TABLE private_todos
+    ADD COLUMN remind_at TIMESTAMP(6),
+    ADD COLUMN reminder_sent BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- 기존 데이터 채우기 (이미 지난 알림은 발송된 것으로 처리)
+UPDATE events
+SET remind_at = start_at - offset_minutes * INTERVAL '1 minute',
+    reminder_sent = (start_at - offset_minutes * INTERVAL '1 minute') <= LOCALTIMESTAMP;
+
+UPDATE private_todos
+SET remind_at = date - offset_minutes * INTERVAL '1 minute',
+    reminder_sent = (date - offset_minutes * INTERVAL '1 minute') <= LOCALTIMESTAMP
+WHERE date IS NOT NULL;
+
+CREATE INDEX idx_ev_remind_unsent ON events(remind_at) WHERE reminder_sent = FALSE;
+CREATE INDEX idx_pt_remind_unsent ON private_todos(remind_at) WHERE reminder_sent = FALSE AND remind_at IS NOT NULL;
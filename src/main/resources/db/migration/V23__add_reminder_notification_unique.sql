@@ -0,0 +1,11 @@
+-- V23__add_reminder_notification_unique.sql
+-- 이벤트/개인 TODO 알림은 (받는 사람, 대상, 타입, 알림 시각)당 1건만 (일괄 INSERT ... ON CONFLICT DO NOTHING 용)
+-- 알림 시각이 키에 들어가므로 시간이 바뀐 뒤의 새 알림은 이전 시각 알림(읽었더라도)과 충돌하지 않음
+
+ALTER TABLE notifications
+    ADD COLUMN remind_at TIMESTAMP(6);
+
+-- 기존 알림은 remind_at 이 NULL 이라 서로 충돌하지 않음 → 삭제 없이 인덱스만 추가
+CREATE UNIQUE INDEX uk_notifications_reminder
+    ON notifications(user_id, reference_id, type, remind_at)
+    WHERE type IN ('EVENT', 'PRIVATE_TODO');
@@ -0,0 +1,3 @@
+-- V24__add_notification_user_id_index.sql
+-- SSE 재연결 시 Last-Event-ID 이후 알림 조회용
+CREATE INDEX idx_notifications_user_id ON notifications(user_id, id);
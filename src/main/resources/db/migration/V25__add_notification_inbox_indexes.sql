@@ -0,0 +1,6 @@
+-- V25__add_notification_inbox_indexes.sql
+-- 알림함 키셋 페이지네이션 (user_id, sent_at desc, id desc)
+CREATE INDEX idx_notifications_user_sent ON notifications(user_id, sent_at DESC, id DESC);
+
+-- 읽지 않은 알림 개수 (캐시 미스 시 COUNT)
+CREATE INDEX idx_notifications_user_unread ON notifications(user_id) WHERE is_read = FALSE;
@@ -0,0 +1,6 @@
+-- V26__add_notification_retention_indexes.sql
+-- 시간 변경 시 미발송 알림 삭제 / 초대 알림 조회 (reference_id, type)
+CREATE INDEX idx_notifications_reference ON notifications(reference_id, type);
+
+-- 보관기간 지난 읽은 알림 정리
+CREATE INDEX idx_notifications_read_sent ON notifications(sent_at) WHERE is_read = TRUE;
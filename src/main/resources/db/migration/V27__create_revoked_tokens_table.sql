@@ -0,0 +1,12 @@
+-- V27__create_revoked_tokens_table.sql
+-- 로그아웃된 액세스 토큰(jti). 토큰 만료 시각이 지나면 정리
+CREATE TABLE revoked_tokens (
+    jti         VARCHAR(64) PRIMARY KEY,
+    expires_at  TIMESTAMP   NOT NULL,
+    revoked_at  TIMESTAMP   NOT NULL DEFAULT now()
+);
+
+-- 다른 서버에서 추가된 항목 동기화
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens(revoked_at);
+-- 만료된 항목 정리
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens(expires_at);
@@ -0,0 +1,9 @@
+-- V28__add_refresh_token_rotation.sql
+-- 재발급마다 refresh 토큰 교체: 직전 토큰 해시를 남겨서 재사용(탈취) 감지
+ALTER TABLE refresh_tokens
+    ADD COLUMN previous_token_hash BYTEA,
+    ADD COLUMN rotated_at TIMESTAMP(6);
+
+CREATE INDEX idx_refresh_previous_hash
+    ON refresh_tokens (previous_token_hash)
+    WHERE previous_token_hash IS NOT NULL;
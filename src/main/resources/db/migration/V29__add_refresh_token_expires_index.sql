@@ -0,0 +1,3 @@
+-- V29__add_refresh_token_expires_index.sql
+-- 만료/폐기된 refresh 토큰 정리 (폐기 시 expires_at 도 now() 로 바뀌므로 expires_at 하나로 조회)
+CREATE INDEX idx_refresh_expires_at ON refresh_tokens (expires_at);
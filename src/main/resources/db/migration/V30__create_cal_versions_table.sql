@@ -0,0 +1,10 @@
+-- V30__create_cal_versions_table.sql
+-- 캘린더 캐시/ETag 용 변경 버전 (서버 여러 대에서 같은 값을 보도록 DB에 저장)
+-- kind: CAL(프로젝트 캘린더), TODO(프로젝트 TODO), USER_TODO(사용자 개인 TODO)
+-- 쓰기 트랜잭션 안에서 증가시키므로 데이터 변경과 함께 커밋됨
+CREATE TABLE cal_versions (
+    kind     VARCHAR(10) NOT NULL,
+    ref_id   BIGINT      NOT NULL,
+    version  BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (kind, ref_id)
+);
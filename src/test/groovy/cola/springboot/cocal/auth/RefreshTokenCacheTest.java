@@ -0,0 +1,77 @@
+package cola.springboot.cocal.auth;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshTokenCacheTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+
+    private static byte[] hash(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static RefreshTokenCache.Entry entry(long tokenId, long userId) {
+        return new RefreshTokenCache.Entry(tokenId, userId, "u" + userId + "@test.com", "USER",
+                LocalDateTime.now().plusDays(7));
+    }
+
+    @Test
+    @DisplayName("해시 내용이 같으면 다른 배열이어도 같은 항목을 찾고, TTL 이 지나면 null")
+    void lookupByContentUntilTtl() {
+        RefreshTokenCache cache = new RefreshTokenCache(10, 30, clock::get);
+        cache.put(hash("t1"), entry(1L, 1L));
+
+        assertThat(cache.get(hash("t1"))).isNotNull();
+        clock.addAndGet(30_000);
+        assertThat(cache.get(hash("t1"))).isNull();
+    }
+
+    @Test
+    @DisplayName("evictUser 는 해당 사용자 항목만 지운다")
+    void evictUserRemovesOnlyThatUser() {
+        RefreshTokenCache cache = new RefreshTokenCache(10, 30, clock::get);
+        cache.put(hash("t1"), entry(1L, 1L));
+        cache.put(hash("t2"), entry(2L, 1L));
+        cache.put(hash("t3"), entry(3L, 2L));
+
+        cache.evictUser(1L);
+
+        assertThat(cache.get(hash("t1"))).isNull();
+        assertThat(cache.get(hash("t2"))).isNull();
+        assertThat(cache.get(hash("t3")).tokenId()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 토큰부터 제거한다")
+    void evictsLeastRecentlyUsed() {
+        RefreshTokenCache cache = new RefreshTokenCache(2, 30, clock::get);
+        cache.put(hash("t1"), entry(1L, 1L));
+        cache.put(hash("t2"), entry(2L, 2L));
+        cache.get(hash("t1"));
+        cache.put(hash("t3"), entry(3L, 3L));
+
+        assertThat(cache.get(hash("t2"))).isNull();
+        assertThat(cache.get(hash("t1"))).isNotNull();
+        assertThat(cache.get(hash("t3"))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("refresh 토큰 만료 시각이 TTL 보다 먼저면 그때까지만 유지한다")
+    void entryDoesNotOutliveToken() {
+        AtomicLong wallClock = new AtomicLong(System.currentTimeMillis());
+        RefreshTokenCache cache = new RefreshTokenCache(10, 1800, wallClock::get);
+        LocalDateTime tokenExpiresAt = LocalDateTime.now().plusSeconds(60);
+        cache.put(hash("t1"), new RefreshTokenCache.Entry(1L, 1L, "u1@test.com", "USER", tokenExpiresAt));
+
+        assertThat(cache.get(hash("t1"))).isNotNull();
+        wallClock.addAndGet(61_000);
+        assertThat(cache.get(hash("t1"))).isNull();
+    }
+}
@@ -0,0 +1,126 @@
+package cola.springboot.cocal.auth;
+
+import cola.springboot.cocal.common.security.JwtTokenProvider;
+import cola.springboot.cocal.support.IntegrationTestSupport;
+import cola.springboot.cocal.support.TestFixtures;
+import cola.springboot.cocal.user.User;
+import cola.springboot.cocal.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 재로그인 시 만료 시각 갱신 + 보관기간 지난 refresh 토큰 정리
+class RefreshTokenPurgeTest extends IntegrationTestSupport {
+
+    private static final long RETENTION_DAYS = 7;
+
+    @Autowired
+    RefreshTokenService refreshTokenService;
+    @Autowired
+    RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    JwtTokenProvider jwt;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    User user;
+    // 한 묶음 2건으로 여러 번 나눠 지우는 경로까지 타도록
+    RefreshTokenPurgeService purgeService;
+
+    @BeforeEach
+    void setUp() {
+        long userId = new TestFixtures(jdbcTemplate).createUser();
+        user = userRepository.findById(userId).orElseThrow();
+        purgeService = new RefreshTokenPurgeService(refreshTokenRepository, RETENTION_DAYS, 2, 100);
+    }
+
+    private void login(String device) {
+        refreshTokenService.saveRefreshToken(user, device, jwt.createRefreshToken().getSecond());
+    }
+
+    private void setExpiresAt(String device, LocalDateTime expiresAt) {
+        jdbcTemplate.update("UPDATE refresh_tokens SET expires_at = ? WHERE user_id = ? AND device_info = ?",
+                expiresAt, user.getId(), device);
+    }
+
+    private List<String> devices() {
+        return jdbcTemplate.queryForList(
+                "SELECT device_info FROM refresh_tokens WHERE user_id = ? ORDER BY device_info",
+                String.class, user.getId());
+    }
+
+    @Test
+    @DisplayName("같은 기기로 다시 로그인하면 만료 시각이 새로 잡혀 정리 대상에서 빠진다")
+    void reloginExtendsExpiry() {
+        login("Chrome/Windows");
+        // 처음 로그인이 오래전이라 만료 + 보관기간이 이미 지난 상태
+        setExpiresAt("Chrome/Windows", LocalDateTime.now().minusDays(RETENTION_DAYS + 1));
+
+        login("Chrome/Windows");
+
+        LocalDateTime expiresAt = jdbcTemplate.queryForObject(
+                "SELECT expires_at FROM refresh_tokens WHERE user_id = ?", LocalDateTime.class, user.getId());
+        assertThat(expiresAt).isAfter(LocalDateTime.now().plusDays(29));
+
+        purgeService.purge();
+        assertThat(devices()).containsExactly("Chrome/Windows");
+    }
+
+    @Test
+    @DisplayName("보관기간이 지난 만료 토큰과 폐기 토큰만 지우고, 나머지는 남긴다")
+    void purgesOnlyRowsPastRetention() {
+        LocalDateTime beforeCutoff = LocalDateTime.now().minusDays(RETENTION_DAYS + 1);
+        // 폐기된 적 없이 만료된 것
+        login("a-expired-1");
+        login("a-expired-2");
+        login("a-expired-3");
+        setExpiresAt("a-expired-1", beforeCutoff);
+        setExpiresAt("a-expired-2", beforeCutoff);
+        setExpiresAt("a-expired-3", beforeCutoff);
+        // 오래전에 로그아웃한 것 (폐기 시 expires_at 도 그 시각으로 바뀜)
+        login("b-revoked-old");
+        refreshTokenService.revokeRefreshToken(user.getId(), "b-revoked-old");
+        setExpiresAt("b-revoked-old", beforeCutoff);
+        // 최근 로그아웃 / 만료 직후 / 활성
+        login("c-revoked-recent");
+        refreshTokenService.revokeRefreshToken(user.getId(), "c-revoked-recent");
+        login("d-expired-recent");
+        setExpiresAt("d-expired-recent", LocalDateTime.now().minusDays(1));
+        login("e-active");
+
+        purgeService.purge();
+
+        assertThat(devices()).containsExactly("c-revoked-recent", "d-expired-recent", "e-active");
+        assertThat(purgeService.stats().lastRunDeleted()).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("실행/삭제 수를 auth.refresh.purge.* 지표로 노출한다")
+    void exposesMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        purgeService.bindTo(registry);
+        login("a-expired");
+        setExpiresAt("a-expired", LocalDateTime.now().minusDays(RETENTION_DAYS + 1));
+
+        purgeService.purge();
+        purgeService.purge();
+
+        assertThat(registry.get("auth.refresh.purge.runs").functionCounter().count()).isEqualTo(2.0);
+        assertThat(registry.get("auth.refresh.purge.deleted").functionCounter().count())
+                .isEqualTo((double) purgeService.stats().deleted())
+                .isGreaterThanOrEqualTo(1.0);
+        // 두 번째 실행에서는 지울 게 없음
+        assertThat(registry.get("auth.refresh.purge.last.deleted").gauge().value()).isZero();
+        assertThat(registry.get("auth.refresh.purge.failures").functionCounter().count()).isZero();
+    }
+}
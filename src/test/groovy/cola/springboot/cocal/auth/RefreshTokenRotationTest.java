@@ -0,0 +1,156 @@
+package cola.springboot.cocal.auth;
+
+import cola.springboot.cocal.common.exception.BusinessException;
+import cola.springboot.cocal.common.security.JwtTokenProvider;
+import cola.springboot.cocal.support.IntegrationTestSupport;
+import cola.springboot.cocal.support.TestFixtures;
+import cola.springboot.cocal.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.util.Pair;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// refresh 토큰 교체(rotation), 동시 요청 grace, grace 이후 재사용 감지
+@TestPropertySource(properties = "app.auth.refresh-rotation.grace-seconds=10")
+class RefreshTokenRotationTest extends IntegrationTestSupport {
+
+    private static final String DEVICE = "Chrome/Windows";
+
+    @Autowired
+    AuthService authService;
+    @Autowired
+    RefreshTokenService refreshTokenService;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    JwtTokenProvider jwt;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    RefreshTokenCache refreshTokenCache;
+
+    long userId;
+    String firstToken;
+
+    @BeforeEach
+    void setUp() {
+        userId = new TestFixtures(jdbcTemplate).createUser();
+        Pair<String, byte[]> refresh = jwt.createRefreshToken();
+        refreshTokenService.saveRefreshToken(userRepository.findById(userId).orElseThrow(), DEVICE, refresh.getSecond());
+        firstToken = refresh.getFirst();
+    }
+
+    private String errorCode(Runnable call) {
+        try {
+            call.run();
+        } catch (BusinessException e) {
+            return e.getCode();
+        }
+        throw new AssertionError("BusinessException 이 발생하지 않음");
+    }
+
+    private void moveRotatedAtBack(long seconds) {
+        jdbcTemplate.update("""
+                UPDATE refresh_tokens SET rotated_at = rotated_at - make_interval(secs => ?)
+                WHERE user_id = ?
+                """, seconds, userId);
+    }
+
+    @Test
+    @DisplayName("재발급하면 새 refresh 토큰으로 교체되고, 새 토큰으로 다시 재발급할 수 있다")
+    void reissueRotatesToken() {
+        AuthService.TokenPair second = authService.reissueAccessToken(firstToken);
+
+        assertThat(second.accessToken()).isNotBlank();
+        assertThat(second.refreshToken()).isNotBlank().isNotEqualTo(firstToken);
+        byte[] stored = jdbcTemplate.queryForObject(
+                "SELECT token_hash FROM refresh_tokens WHERE user_id = ? AND revoked_at IS NULL", byte[].class, userId);
+        assertThat(stored).isEqualTo(jwt.hashRefreshToken(second.refreshToken()));
+
+        AuthService.TokenPair third = authService.reissueAccessToken(second.refreshToken());
+        assertThat(third.refreshToken()).isNotEqualTo(second.refreshToken());
+    }
+
+    @Test
+    @DisplayName("재발급 때 넣어둔 새 토큰은 다음 재발급에서 캐시로 찾는다")
+    void nextReissueHitsCache() {
+        long hitsBefore = refreshTokenCache.stats().hits();
+        long missesBefore = refreshTokenCache.stats().misses();
+
+        // 로그인으로 받은 토큰은 캐시에 없음 → DB 조회
+        AuthService.TokenPair second = authService.reissueAccessToken(firstToken);
+        assertThat(refreshTokenCache.stats().misses()).isEqualTo(missesBefore + 1);
+
+        AuthService.TokenPair third = authService.reissueAccessToken(second.refreshToken());
+        AuthService.TokenPair fourth = authService.reissueAccessToken(third.refreshToken());
+
+        assertThat(refreshTokenCache.stats().hits()).isEqualTo(hitsBefore + 2);
+        assertThat(refreshTokenCache.stats().misses()).isEqualTo(missesBefore + 1);
+        assertThat(fourth.refreshToken()).isNotBlank();
+        byte[] stored = jdbcTemplate.queryForObject(
+                "SELECT token_hash FROM refresh_tokens WHERE user_id = ? AND revoked_at IS NULL", byte[].class, userId);
+        assertThat(stored).isEqualTo(jwt.hashRefreshToken(fourth.refreshToken()));
+    }
+
+    @Test
+    @DisplayName("캐시에 있어도 DB 에서 폐기된 토큰으로는 재발급되지 않는다")
+    void cachedTokenRevokedInDbIsRejected() {
+        AuthService.TokenPair second = authService.reissueAccessToken(firstToken);
+        // 캐시를 거치지 않고 DB 에서만 폐기
+        jdbcTemplate.update("UPDATE refresh_tokens SET revoked_at = now() WHERE user_id = ?", userId);
+
+        assertThat(refreshTokenCache.get(jwt.hashRefreshToken(second.refreshToken()))).isNotNull();
+        assertThat(errorCode(() -> authService.reissueAccessToken(second.refreshToken())))
+                .isEqualTo("INVALID_REFRESH_TOKEN");
+    }
+
+    @Test
+    @DisplayName("grace 안에 직전 토큰이 다시 오면 access 만 발급하고 세션은 유지한다")
+    void previousTokenWithinGraceGetsAccessOnly() {
+        AuthService.TokenPair rotated = authService.reissueAccessToken(firstToken);
+
+        AuthService.TokenPair concurrent = authService.reissueAccessToken(firstToken);
+
+        assertThat(concurrent.accessToken()).isNotBlank();
+        assertThat(concurrent.refreshToken()).isNull();
+        assertThat(authService.reissueAccessToken(rotated.refreshToken()).refreshToken()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("grace 가 지나서 직전 토큰이 오면 재사용으로 보고 해당 기기 세션을 폐기한다")
+    void previousTokenAfterGraceRevokesSession() {
+        AuthService.TokenPair rotated = authService.reissueAccessToken(firstToken);
+        moveRotatedAtBack(11);
+
+        assertThat(errorCode(() -> authService.reissueAccessToken(firstToken))).isEqualTo("REFRESH_TOKEN_REUSED");
+
+        Integer active = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM refresh_tokens WHERE user_id = ? AND revoked_at IS NULL", Integer.class, userId);
+        assertThat(active).isZero();
+        // 캐시에 남아 있던 새 토큰도 더는 쓸 수 없음
+        assertThat(errorCode(() -> authService.reissueAccessToken(rotated.refreshToken())))
+                .isEqualTo("INVALID_REFRESH_TOKEN");
+    }
+
+    @Test
+    @DisplayName("두 번 전 토큰은 grace 와 상관없이 유효하지 않다")
+    void olderTokenIsInvalid() {
+        AuthService.TokenPair second = authService.reissueAccessToken(firstToken);
+        authService.reissueAccessToken(second.refreshToken());
+
+        assertThat(errorCode(() -> authService.reissueAccessToken(firstToken))).isEqualTo("INVALID_REFRESH_TOKEN");
+    }
+
+    @Test
+    @DisplayName("만료된 refresh 토큰은 재발급되지 않는다")
+    void expiredTokenIsRejected() {
+        jdbcTemplate.update("UPDATE refresh_tokens SET expires_at = now() - interval '1 minute' WHERE user_id = ?", userId);
+
+        assertThat(errorCode(() -> authService.reissueAccessToken(firstToken))).isEqualTo("EXPIRED_REFRESH_TOKEN");
+    }
+}
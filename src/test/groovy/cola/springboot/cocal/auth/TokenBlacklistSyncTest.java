@@ -0,0 +1,74 @@
+package cola.springboot.cocal.auth;
+
+import cola.springboot.cocal.common.security.JwtTokenProvider;
+import cola.springboot.cocal.common.security.VerifiedTokenCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenBlacklistSyncTest {
+
+    private static final long OVERLAP_SECONDS = 5;
+
+    private final RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+    private final TokenBlacklistService service = new TokenBlacklistService(
+            repository, mock(JwtTokenProvider.class), mock(VerifiedTokenCache.class), OVERLAP_SECONDS);
+
+    private static RevokedToken revoked(String jti, LocalDateTime revokedAt) {
+        return new RevokedToken(jti, LocalDateTime.now().plusMinutes(20), revokedAt);
+    }
+
+    @Test
+    @DisplayName("다음 조회 기준은 앱 서버 시계가 아니라 가져온 행의 revoked_at 최댓값")
+    void watermarkComesFromFetchedRows() {
+        // DB 시계가 앱 서버보다 10분 늦은 상황
+        LocalDateTime dbNow = LocalDateTime.now().minusMinutes(10);
+        when(repository.findRevokedSince(any(), any()))
+                .thenReturn(List.of(revoked("a", dbNow.minusSeconds(3)), revoked("b", dbNow)))
+                .thenReturn(List.of(revoked("c", dbNow.plusSeconds(2))))
+                .thenReturn(List.of());
+
+        service.sync();
+        service.sync();
+        service.sync();
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository, times(3)).findRevokedSince(since.capture(), any());
+        assertThat(since.getAllValues()).containsExactly(
+                LocalDateTime.of(1970, 1, 1, 0, 0),
+                dbNow.minusSeconds(OVERLAP_SECONDS),
+                dbNow.plusSeconds(2).minusSeconds(OVERLAP_SECONDS));
+        assertThat(service.isBlacklisted("a")).isTrue();
+        assertThat(service.isBlacklisted("c")).isTrue();
+    }
+
+    @Test
+    @DisplayName("가져온 행이 없거나 조회가 실패하면 기준을 그대로 둔다")
+    void watermarkStaysWhenNothingFetched() {
+        LocalDateTime dbNow = LocalDateTime.now().minusMinutes(1);
+        when(repository.findRevokedSince(any(), any()))
+                .thenReturn(List.of(revoked("a", dbNow)))
+                .thenReturn(List.of())
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(List.of());
+
+        for (int i = 0; i < 4; i++) {
+            service.sync();
+        }
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository, times(4)).findRevokedSince(since.capture(), any());
+        assertThat(since.getAllValues().subList(1, 4))
+                .containsOnly(dbNow.minusSeconds(OVERLAP_SECONDS));
+    }
+}
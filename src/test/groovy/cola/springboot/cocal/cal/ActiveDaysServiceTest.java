@@ -0,0 +1,158 @@
+package cola.springboot.cocal.cal;
+
+import cola.springboot.cocal.support.IntegrationTestSupport;
+import cola.springboot.cocal.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// DB 시각은 UTC, 날짜 비트는 KST(UTC+9) 기준
+class ActiveDaysServiceTest extends IntegrationTestSupport {
+
+    private static final YearMonth JAN = YearMonth.of(2031, 1);
+    private static final YearMonth FEB = YearMonth.of(2031, 2);
+
+    @Autowired
+    ActiveDaysService activeDaysService;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    TestFixtures fixtures;
+    long userId;
+    long projectId;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures(jdbcTemplate);
+        userId = fixtures.createUser();
+        projectId = fixtures.createProject(userId);
+    }
+
+    private static LocalDateTime utc(String kst) {
+        return LocalDateTime.parse(kst).minusHours(9);
+    }
+
+    @Test
+    @DisplayName("개인 TODO 는 KST 날짜 기준으로 월이 나뉜다")
+    void privateTodoUsesKstMonthBoundary() {
+        LocalDateTime now = LocalDateTime.now();
+        // KST 1/31 23:30 → 1월 31일 (31번째 비트)
+        fixtures.createPrivateTodo(projectId, userId, utc("2031-01-31T23:30"), now);
+        // KST 2/1 00:30 (UTC 로는 아직 1/31) → 2월 1일
+        fixtures.createPrivateTodo(projectId, userId, utc("2031-02-01T00:30"), now);
+        // KST 1/1 00:00 → 1월 1일 (UTC 로는 전년도 12/31)
+        fixtures.createPrivateTodo(projectId, userId, utc("2031-01-01T00:00"), now);
+
+        assertThat(activeDaysService.getActiveDays(projectId, userId, JAN)).containsExactly(1, 31);
+        assertThat(activeDaysService.getActiveDays(projectId, userId, FEB)).containsExactly(1);
+        assertThat(activeDaysService.getActiveDays(projectId, userId, YearMonth.of(2030, 12))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("월을 넘는 이벤트의 TODO 는 양쪽 월에 잘려서 표시된다")
+    void eventSpanningMonthsIsSplit() {
+        LocalDateTime now = LocalDateTime.now();
+        long eventId = fixtures.createEvent(projectId, userId, utc("2031-01-30T10:00"), now);
+        jdbcTemplate.update("UPDATE events SET end_at = ? WHERE id = ?", utc("2031-02-02T10:00"), eventId);
+        fixtures.createEventTodo(eventId, userId, now);
+        // TODO 없는 이벤트는 표시되지 않음
+        fixtures.createEvent(projectId, userId, utc("2031-01-10T10:00"), now);
+
+        assertThat(activeDaysService.getActiveDays(projectId, userId, JAN)).containsExactly(30, 31);
+        assertThat(activeDaysService.getActiveDays(projectId, userId, FEB)).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("2월 말일과 윤년 29일도 올바른 비트에 들어간다")
+    void shortMonthsAndLeapDay() {
+        LocalDateTime now = LocalDateTime.now();
+        fixtures.createPrivateTodo(projectId, userId, utc("2031-02-28T12:00"), now);
+        fixtures.createPrivateTodo(projectId, userId, utc("2032-02-29T12:00"), now);
+
+        assertThat(activeDaysService.getActiveDays(projectId, userId, FEB)).containsExactly(28);
+        assertThat(activeDaysService.getActiveDays(projectId, userId, YearMonth.of(2032, 2))).containsExactly(29);
+        assertThat(activeDaysService.getActiveDays(projectId, userId, YearMonth.of(2032, 3))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 멤버의 개인 TODO 는 보이지 않고 공용 비트와 OR 된다")
+    void privateBitsArePerUser() {
+        long other = fixtures.createUser();
+        fixtures.addMember(projectId, other);
+        LocalDateTime now = LocalDateTime.now();
+        fixtures.createPrivateTodo(projectId, other, utc("2031-01-05T12:00"), now);
+        fixtures.createPrivateTodo(projectId, userId, utc("2031-01-07T12:00"), now);
+        long eventId = fixtures.createEvent(projectId, other, utc("2031-01-09T12:00"), now);
+        fixtures.createEventTodo(eventId, other, now);
+
+        assertThat(activeDaysService.getActiveDays(projectId, userId, JAN)).containsExactly(7, 9);
+        assertThat(activeDaysService.getActiveDays(projectId, other, JAN)).containsExactly(5, 9);
+    }
+
+    @Test
+    @DisplayName("변경 후 재계산하면 저장된 비트맵이 갱신된다")
+    void refreshUpdatesStoredBitmap() {
+        LocalDateTime now = LocalDateTime.now();
+        assertThat(activeDaysService.getActiveDays(projectId, userId, JAN)).isEmpty();
+
+        LocalDateTime date = utc("2031-01-20T09:00");
+        fixtures.createPrivateTodo(projectId, userId, date, now);
+        // 트랜잭션 밖이므로 즉시 재계산
+        activeDaysService.refreshPrivateAfterCommit(projectId, userId, date);
+
+        assertThat(activeDaysService.getActiveDays(projectId, userId, JAN)).containsExactly(20);
+    }
+
+    @Test
+    @DisplayName("여러 달 조회 시 없는 월은 공용/개인 모두 한 번에 계산되어 저장된다")
+    void rangeComputesAllMissingMonths() {
+        LocalDateTime now = LocalDateTime.now();
+        YearMonth mar = YearMonth.of(2031, 3);
+        fixtures.createPrivateTodo(projectId, userId, utc("2031-01-15T12:00"), now);
+        long eventId = fixtures.createEvent(projectId, userId, utc("2031-03-03T12:00"), now);
+        fixtures.createEventTodo(eventId, userId, now);
+
+        Map<YearMonth, List<Integer>> days = activeDaysService.getActiveDays(projectId, userId, JAN, mar);
+
+        assertThat(days).containsOnlyKeys(JAN, FEB, mar);
+        assertThat(days.get(JAN)).containsExactly(15);
+        assertThat(days.get(FEB)).isEmpty();
+        assertThat(days.get(mar)).containsExactly(3);
+        // 3개월 x (공용 + 본인), 빈 월도 0으로 저장
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM active_day_bitmaps WHERE project_id = ?", Integer.class, projectId);
+        assertThat(rows).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("신선한 월은 다시 계산하지 않고 오래된 월만 다시 계산한다")
+    void onlyStaleMonthsAreRecomputed() {
+        LocalDateTime now = LocalDateTime.now();
+        activeDaysService.getActiveDays(projectId, userId, JAN, FEB);
+
+        // 커밋 후 재계산 없이 데이터만 바뀐 상황
+        fixtures.createPrivateTodo(projectId, userId, utc("2031-01-10T12:00"), now);
+        fixtures.createPrivateTodo(projectId, userId, utc("2031-02-10T12:00"), now);
+        assertThat(activeDaysService.getActiveDays(projectId, userId, JAN, FEB).values())
+                .allSatisfy(d -> assertThat(d).isEmpty());
+
+        // 1월 본인 비트맵만 max-age 보다 오래된 것으로 만듦
+        jdbcTemplate.update("""
+                UPDATE active_day_bitmaps SET computed_at = now() - interval '1 day'
+                WHERE project_id = ? AND user_id = ? AND month_start = ?
+                """, projectId, userId, JAN.atDay(1));
+
+        Map<YearMonth, List<Integer>> days = activeDaysService.getActiveDays(projectId, userId, JAN, FEB);
+        assertThat(days.get(JAN)).containsExactly(10);
+        assertThat(days.get(FEB)).isEmpty();
+    }
+}
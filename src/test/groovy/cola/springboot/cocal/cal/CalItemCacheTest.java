@@ -0,0 +1,89 @@
+package cola.springboot.cocal.cal;
+
+import cola.springboot.cocal.cal.DTO.CalItemResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalItemCacheTest {
+
+    private static final LocalDate FROM = LocalDate.of(2031, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2031, 1, 31);
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Supplier<CalItemResponse> loader = () -> {
+        loads.incrementAndGet();
+        return CalItemResponse.builder().build();
+    };
+
+    @Test
+    @DisplayName("같은 프로젝트/버전/기간은 TTL 안에서 한 번만 조회한다")
+    void hitsWithinTtl() {
+        CalItemCache cache = new CalItemCache(10, 600, clock::get);
+
+        cache.get(1L, 1, FROM, TO, loader);
+        cache.get(1L, 1, FROM, TO, loader);
+        assertThat(loads).hasValue(1);
+
+        clock.addAndGet(600_000);
+        cache.get(1L, 1, FROM, TO, loader);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("버전이나 기간이 다르면 다른 항목이다")
+    void versionAndRangeArePartOfKey() {
+        CalItemCache cache = new CalItemCache(10, 600, clock::get);
+
+        cache.get(1L, 1, FROM, TO, loader);
+        cache.get(1L, 2, FROM, TO, loader);
+        cache.get(1L, 2, FROM, TO.plusDays(1), loader);
+
+        assertThat(loads).hasValue(3);
+        assertThat(cache.stats().size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거한다")
+    void evictsLeastRecentlyUsed() {
+        CalItemCache cache = new CalItemCache(2, 600, clock::get);
+
+        cache.get(1L, 1, FROM, TO, loader);
+        cache.get(2L, 1, FROM, TO, loader);
+        cache.get(1L, 1, FROM, TO, loader);
+        cache.get(3L, 1, FROM, TO, loader);
+        assertThat(loads).hasValue(3);
+
+        cache.get(1L, 1, FROM, TO, loader);
+        assertThat(loads).hasValue(3);
+        cache.get(2L, 1, FROM, TO, loader);
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("적중/미스/크기를 cache.* 지표로 내보낸다")
+    void exposesMetrics() {
+        CalItemCache cache = new CalItemCache(10, 600, clock::get);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.get(1L, 1, FROM, TO, loader);
+        cache.get(1L, 1, FROM, TO, loader);
+        cache.get(2L, 1, FROM, TO, loader);
+
+        assertThat(registry.get("cache.gets").tag("cache", "cal-items").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tag("cache", "cal-items").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("cache.size").tag("cache", "cal-items").gauge().value()).isEqualTo(2);
+    }
+}
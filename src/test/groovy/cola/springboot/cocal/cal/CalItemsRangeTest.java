@@ -0,0 +1,90 @@
+package cola.springboot.cocal.cal;
+
+import cola.springboot.cocal.cal.DTO.CalItemResponse;
+import cola.springboot.cocal.event.dto.EventResponse;
+import cola.springboot.cocal.memo.DTO.MemoResponse;
+import cola.springboot.cocal.support.IntegrationTestSupport;
+import cola.springboot.cocal.support.TestFixtures;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// from/to 구간 조회 (KST 날짜 → UTC [start, end))
+class CalItemsRangeTest extends IntegrationTestSupport {
+
+    // KST 2031-03-10 ~ 2031-03-16 → UTC [2031-03-09T15:00, 2031-03-16T15:00)
+    private static final LocalDate FROM = LocalDate.of(2031, 3, 10);
+    private static final LocalDate TO = LocalDate.of(2031, 3, 16);
+    private static final LocalDateTime UTC_START = LocalDateTime.of(2031, 3, 9, 15, 0);
+    private static final LocalDateTime UTC_END = LocalDateTime.of(2031, 3, 16, 15, 0);
+
+    @Autowired
+    CalService calService;
+    @Autowired
+    CalStreamService calStreamService;
+    @Autowired
+    ObjectMapper objectMapper;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    TestFixtures fixtures;
+    long userId;
+    long projectId;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures(jdbcTemplate);
+        userId = fixtures.createUser();
+        projectId = fixtures.createProject(userId);
+    }
+
+    private JsonNode stream(LocalDate from, LocalDate to) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        calStreamService.streamCalendarItems(projectId, from, to, "/test").writeTo(out);
+        return objectMapper.readTree(out.toByteArray()).get("data");
+    }
+
+    @Test
+    @DisplayName("이벤트가 없는 구간이어도 메모는 내려준다")
+    void memosWithoutEvents() throws Exception {
+        long memoId = fixtures.createMemo(projectId, userId, FROM.plusDays(2), LocalDateTime.now());
+        fixtures.createMemo(projectId, userId, TO.plusDays(1), LocalDateTime.now());
+
+        CalItemResponse res = calService.getCalendarItems(userId, projectId, FROM, TO);
+
+        assertThat(res.getEvents()).isEmpty();
+        assertThat(res.getMemos()).extracting(MemoResponse::getId).containsExactly(String.valueOf(memoId));
+
+        JsonNode streamed = stream(FROM, TO);
+        assertThat(streamed.get("events")).isEmpty();
+        assertThat(streamed.get("memos")).singleElement()
+                .satisfies(m -> assertThat(m.get("id").asText()).isEqualTo(String.valueOf(memoId)));
+    }
+
+    @Test
+    @DisplayName("구간 시작 시각에 딱 끝나는 이벤트와 끝 시각에 시작하는 이벤트는 빠지고, 걸치는 이벤트는 포함된다")
+    void boundaryEvents() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        fixtures.createEvent(projectId, userId, UTC_START.minusHours(1), UTC_START, now);
+        long overlapping = fixtures.createEvent(projectId, userId, UTC_START.minusHours(1), UTC_START.plusMinutes(1), now);
+        long startsAtStart = fixtures.createEvent(projectId, userId, UTC_START, UTC_START.plusHours(1), now);
+        fixtures.createEvent(projectId, userId, UTC_END, UTC_END.plusHours(1), now);
+
+        CalItemResponse res = calService.getCalendarItems(userId, projectId, FROM, TO);
+
+        assertThat(res.getEvents()).extracting(EventResponse::getId)
+                .containsExactlyInAnyOrder(overlapping, startsAtStart);
+        assertThat(stream(FROM, TO).get("events")).extracting(e -> e.get("id").asLong())
+                .containsExactlyInAnyOrder(overlapping, startsAtStart);
+    }
+}
@@ -0,0 +1,125 @@
+package cola.springboot.cocal.cal;
+
+import cola.springboot.cocal.eventLink.EventLinkRepository;
+import cola.springboot.cocal.eventMember.EventMemberRepository;
+import cola.springboot.cocal.memo.MemoRepository;
+import cola.springboot.cocal.support.IntegrationTestSupport;
+import cola.springboot.cocal.support.TestFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 캘린더 하위 쿼리(멤버/링크/메모) 순차 vs 병렬 지연시간 비교
+ * - ./gradlew benchmark 로만 실행 (기본 test 에서는 제외)
+ * - CalService.loadCalendarItems 와 같은 세 쿼리를 같은 데이터로 반복 실행하고 p50/p95 출력
+ * - 로컬 컨테이너 기준이라 네트워크 왕복이 작음 → 운영 DB 에서는 병렬 쪽 이득이 더 큼
+ */
+@Tag("benchmark")
+class CalParallelFetchBenchmark extends IntegrationTestSupport {
+
+    private static final int EVENTS = 2_000;
+    private static final int WARMUP = 30;
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    EventMemberRepository eventMemberRepository;
+    @Autowired
+    EventLinkRepository eventLinkRepository;
+    @Autowired
+    MemoRepository memoRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("멤버/링크/메모 조회: 순차 vs 병렬")
+    void sequentialVsParallel() {
+        TestFixtures fixtures = new TestFixtures(jdbcTemplate);
+        long owner = fixtures.createUser();
+        long projectId = fixtures.createProject(owner);
+        List<Long> members = List.of(owner, fixtures.createUser(), fixtures.createUser());
+        List<Long> eventIds = seed(projectId, owner, members);
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        CalParallelFetcher fetcher = new CalParallelFetcher(transactionManager, true, 4, 32, 4, 10);
+        try {
+            Runnable sequential = () -> tx.executeWithoutResult(s -> {
+                eventMemberRepository.findAllByEventIds(eventIds);
+                eventLinkRepository.findAllByEventIds(eventIds);
+                memoRepository.findAllByProjectIdWithAuthor(projectId);
+            });
+            Runnable parallel = () -> tx.executeWithoutResult(s -> {
+                CompletableFuture<?> m = fetcher.submit(() -> eventMemberRepository.findAllByEventIds(eventIds));
+                CompletableFuture<?> l = fetcher.submit(() -> eventLinkRepository.findAllByEventIds(eventIds));
+                CompletableFuture<?> n = fetcher.submit(() -> memoRepository.findAllByProjectIdWithAuthor(projectId));
+                CalParallelFetcher.await(m);
+                CalParallelFetcher.await(l);
+                CalParallelFetcher.await(n);
+            });
+
+            report("sequential", measure(sequential));
+            report("parallel  ", measure(parallel));
+        } finally {
+            fetcher.shutdown();
+        }
+    }
+
+    // 이벤트마다 멤버 3명 + 링크 2개, 이벤트 수만큼 메모
+    private List<Long> seed(long projectId, long owner, List<Long> members) {
+        jdbcTemplate.update("""
+                INSERT INTO events (project_id, title, start_at, end_at, author_id)
+                SELECT ?, 'event ' || g, now() + g * interval '1 hour', now() + g * interval '1 hour' + interval '30 minute', ?
+                FROM generate_series(1, ?) g
+                """, projectId, owner, EVENTS);
+        List<Long> eventIds = jdbcTemplate.queryForList("SELECT id FROM events WHERE project_id = ?", Long.class, projectId);
+        jdbcTemplate.update("""
+                INSERT INTO event_members (event_id, user_id)
+                SELECT e.id, u FROM events e CROSS JOIN unnest(?::bigint[]) u WHERE e.project_id = ?
+                """, members.toArray(Long[]::new), projectId);
+        jdbcTemplate.update("""
+                INSERT INTO event_links (event_id, url, order_no)
+                SELECT e.id, 'https://example.com/' || e.id || '/' || n, n
+                FROM events e CROSS JOIN generate_series(0, 1) n WHERE e.project_id = ?
+                """, projectId);
+        jdbcTemplate.update("""
+                INSERT INTO memos (project_id, memo_date, content, author_id)
+                SELECT ?, CURRENT_DATE + (g % 60), 'memo ' || g, ? FROM generate_series(1, ?) g
+                """, projectId, owner, EVENTS);
+        jdbcTemplate.execute("ANALYZE events; ANALYZE event_members; ANALYZE event_links; ANALYZE memos");
+        return eventIds;
+    }
+
+    private static long[] measure(Runnable task) {
+        for (int i = 0; i < WARMUP; i++) {
+            task.run();
+        }
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            task.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private static void report(String name, long[] sorted) {
+        System.out.printf("[CalParallelFetchBenchmark] %s p50=%.2fms p95=%.2fms max=%.2fms (events=%d, n=%d)%n",
+                name,
+                sorted[sorted.length / 2] / 1e6,
+                sorted[(int) (sorted.length * 0.95)] / 1e6,
+                sorted[sorted.length - 1] / 1e6,
+                EVENTS, sorted.length);
+    }
+}
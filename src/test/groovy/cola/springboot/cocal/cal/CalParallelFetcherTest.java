@@ -0,0 +1,86 @@
+package cola.springboot.cocal.cal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class CalParallelFetcherTest {
+
+    private final CalParallelFetcher fetcher =
+            new CalParallelFetcher(mock(PlatformTransactionManager.class), true, 2, 8, 1, 4);
+
+    @AfterEach
+    void tearDown() {
+        fetcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("커넥션 허가가 모두 쓰이는 중이면 기다리지 않고 호출 스레드에서 실행한다")
+    void runsOnCallerWhenPermitsAreTaken() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> blocking = fetcher.submit(() -> {
+            await(release);
+            return Thread.currentThread().getName();
+        });
+
+        CompletableFuture<String> inline = fetcher.submit(() -> Thread.currentThread().getName());
+        assertThat(inline).isDone();
+        assertThat(CalParallelFetcher.await(inline)).isEqualTo(Thread.currentThread().getName());
+
+        release.countDown();
+        assertThat(CalParallelFetcher.await(blocking)).startsWith("cal-fetch-");
+    }
+
+    @Test
+    @DisplayName("작업이 끝나면 허가를 돌려받아 다시 워커에서 실행한다")
+    void permitIsReleasedAfterCompletion() throws Exception {
+        CompletableFuture<String> first = fetcher.submit(() -> Thread.currentThread().getName());
+        first.get(5, TimeUnit.SECONDS);
+        // whenComplete 에서 반납하므로 반환된 future 가 끝났으면 허가도 돌아와 있음
+        CompletableFuture<String> second = fetcher.submit(() -> Thread.currentThread().getName());
+
+        assertThat(second.get(5, TimeUnit.SECONDS)).startsWith("cal-fetch-");
+    }
+
+    @Test
+    @DisplayName("호출 스레드에서 실행한 작업의 예외도 await 에서 그대로 던진다")
+    void inlineFailureIsRethrownAsIs() {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Object> blocking = fetcher.submit(() -> await(release));
+
+        CompletableFuture<Object> failing = fetcher.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+        assertThatThrownBy(() -> CalParallelFetcher.await(failing))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+
+        release.countDown();
+        CalParallelFetcher.await(blocking);
+    }
+
+    @Test
+    @DisplayName("워커 커넥션 수가 풀 크기 이상이면 시작할 때 실패한다")
+    void rejectsPermitsNotBelowPoolSize() {
+        assertThatThrownBy(() -> new CalParallelFetcher(mock(PlatformTransactionManager.class), true, 4, 8, 10, 10))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static Object await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+}
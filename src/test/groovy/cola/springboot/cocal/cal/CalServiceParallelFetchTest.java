@@ -0,0 +1,127 @@
+package cola.springboot.cocal.cal;
+
+import cola.springboot.cocal.cal.DTO.CalItemResponse;
+import cola.springboot.cocal.event.dto.EventResponse;
+import cola.springboot.cocal.eventLink.LinkItem;
+import cola.springboot.cocal.support.IntegrationTestSupport;
+import cola.springboot.cocal.support.TestFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 멤버/링크/메모를 워커 스레드의 별도 트랜잭션에서 조회하는 모드
+// 커넥션 풀을 작게(4) 잡아서 동시 요청이 풀보다 많을 때도 워커가 커넥션을 못 얻어 막히지 않는지 확인
+@TestPropertySource(properties = {
+        "app.cal.parallel-fetch.enabled=true",
+        "app.cal.parallel-fetch.threads=4",
+        "app.cal.parallel-fetch.max-connections=2",
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "spring.datasource.hikari.connection-timeout=3000"
+})
+class CalServiceParallelFetchTest extends IntegrationTestSupport {
+
+    @Autowired
+    CalService calService;
+    @Autowired
+    CalParallelFetcher calParallelFetcher;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("병렬 조회 모드에서도 멤버/링크/메모가 빠짐없이 조립된다")
+    void assemblesDetachedResultsFromWorkers() {
+        assertThat(calParallelFetcher.isEnabled()).isTrue();
+
+        TestFixtures fixtures = new TestFixtures(jdbcTemplate);
+        long owner = fixtures.createUser();
+        long member = fixtures.createUser();
+        long projectId = fixtures.createProject(owner);
+        fixtures.addMember(projectId, member);
+        LocalDateTime now = LocalDateTime.now();
+
+        long first = fixtures.createEvent(projectId, owner, now.plusDays(1), now);
+        fixtures.addEventMember(first, owner);
+        fixtures.addEventMember(first, member);
+        fixtures.addEventLink(first, "https://a.example.com");
+        fixtures.addEventLink(first, "https://b.example.com");
+        long second = fixtures.createEvent(projectId, member, now.plusDays(2), now);
+        fixtures.addEventMember(second, member);
+        long memoId = fixtures.createMemo(projectId, member, LocalDate.now(), now);
+
+        CalItemResponse res = calService.getCalendarItems(owner, projectId, null, null);
+
+        List<EventResponse> events = res.getEvents().stream()
+                .sorted(Comparator.comparing(EventResponse::getId))
+                .toList();
+        assertThat(events).extracting(EventResponse::getId).containsExactly(first, second);
+
+        // 워커 트랜잭션이 끝난 뒤 읽는 User/Event 연관관계 (지연 로딩이면 LazyInitializationException)
+        assertThat(events.get(0).getMembers()).extracting(EventResponse.MemberInfo::getUserId)
+                .containsExactlyInAnyOrder(owner, member);
+        assertThat(events.get(0).getMembers()).allSatisfy(m -> assertThat(m.getEmail()).endsWith("@test.local"));
+        assertThat(events.get(0).getUrls()).extracting(LinkItem::getUrl)
+                .containsExactlyInAnyOrder("https://a.example.com", "https://b.example.com");
+        assertThat(events.get(1).getMembers()).extracting(EventResponse.MemberInfo::getUserId).containsExactly(member);
+        assertThat(events.get(1).getUrls()).isEmpty();
+
+        assertThat(res.getMemos()).singleElement().satisfies(memo -> {
+            assertThat(memo.getId()).isEqualTo(String.valueOf(memoId));
+            assertThat(memo.getAuthor()).singleElement()
+                    .satisfies(a -> assertThat(a.getUserId()).isEqualTo(member));
+        });
+    }
+
+    @Test
+    @DisplayName("동시 요청이 커넥션 풀보다 훨씬 많아도 타임아웃 없이 모두 끝난다")
+    void concurrentRequestsDoNotExhaustPool() throws Exception {
+        TestFixtures fixtures = new TestFixtures(jdbcTemplate);
+        long owner = fixtures.createUser();
+        long projectId = fixtures.createProject(owner);
+        LocalDateTime base = LocalDate.of(2031, 5, 1).atStartOfDay();
+        for (int i = 0; i < 20; i++) {
+            long eventId = fixtures.createEvent(projectId, owner, base.plusDays(i), base);
+            fixtures.addEventMember(eventId, owner);
+            fixtures.addEventLink(eventId, "https://example.com/" + i);
+        }
+
+        // 풀 4개 < 동시 요청 16 × 하위 쿼리 3 + 요청 자신의 커넥션
+        int requests = 16;
+        ExecutorService callers = Executors.newFixedThreadPool(requests);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<CalItemResponse>> results = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                // 구간을 모두 다르게 해서 캐시를 타지 않게
+                LocalDate from = LocalDate.of(2031, 4, 30).minusDays(i);
+                results.add(callers.submit(() -> {
+                    start.await();
+                    return calService.getCalendarItems(owner, projectId, from, LocalDate.of(2031, 5, 31));
+                }));
+            }
+            start.countDown();
+
+            for (Future<CalItemResponse> result : results) {
+                CalItemResponse res = result.get(30, TimeUnit.SECONDS);
+                assertThat(res.getEvents()).hasSize(20)
+                        .allSatisfy(e -> assertThat(e.getUrls()).hasSize(1));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+}
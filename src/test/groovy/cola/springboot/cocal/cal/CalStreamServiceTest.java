@@ -0,0 +1,64 @@
+package cola.springboot.cocal.cal;
+
+import cola.springboot.cocal.common.exception.BusinessException;
+import cola.springboot.cocal.support.IntegrationTestSupport;
+import cola.springboot.cocal.support.TestFixtures;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CalStreamServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    CalStreamService calStreamService;
+    @Autowired
+    ObjectMapper objectMapper;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("정상 스트림은 완전한 JSON 이다")
+    void completeStreamIsValidJson() throws Exception {
+        TestFixtures fixtures = new TestFixtures(jdbcTemplate);
+        long userId = fixtures.createUser();
+        long projectId = fixtures.createProject(userId);
+        LocalDateTime now = LocalDateTime.now();
+        fixtures.createEvent(projectId, userId, now.plusDays(1), now);
+        fixtures.createEvent(projectId, userId, now.plusDays(2), now);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        calStreamService.streamCalendarItems(projectId, null, null, "/test").writeTo(out);
+
+        JsonNode body = objectMapper.readTree(out.toByteArray());
+        assertThat(body.get("success").asBoolean()).isTrue();
+        assertThat(body.get("data").get("events")).hasSize(2);
+        assertThat(body.get("path").asText()).isEqualTo("/test");
+    }
+
+    @Test
+    @DisplayName("스트리밍 중 실패하면 예외가 전파되고 본문은 잘린 JSON 으로 남는다")
+    void failureMidStreamPropagatesAndLeavesTruncatedBody() {
+        // 권한 체크 이후 프로젝트가 사라진 경우 → writeData 에서 실패
+        long missingProjectId = Long.MAX_VALUE - 1;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThatThrownBy(() -> calStreamService.streamCalendarItems(missingProjectId, null, null, "/test").writeTo(out))
+                .isInstanceOf(BusinessException.class);
+
+        String written = out.toString(StandardCharsets.UTF_8);
+        assertThat(written).startsWith("{\"success\":true");
+        // 닫는 괄호를 자동으로 채우지 않으므로 완전한 응답으로 오인되지 않음
+        assertThatThrownBy(() -> objectMapper.readTree(written)).isInstanceOf(JsonProcessingException.class);
+    }
+}
@@ -0,0 +1,151 @@
+package cola.springboot.cocal.cal;
+
+import cola.springboot.cocal.cal.DTO.CalChangesResponse;
+import cola.springboot.cocal.cal.DTO.CalTodoResponse;
+import cola.springboot.cocal.common.exception.BusinessException;
+import cola.springboot.cocal.event.dto.EventResponse;
+import cola.springboot.cocal.memo.DTO.MemoResponse;
+import cola.springboot.cocal.support.IntegrationTestSupport;
+import cola.springboot.cocal.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// overlap-seconds=5, tombstone-retention-days=30 (기본값)
+class CalSyncServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    CalSyncService calSyncService;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    TestFixtures fixtures;
+    long userId;
+    long projectId;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures(jdbcTemplate);
+        userId = fixtures.createUser();
+        projectId = fixtures.createProject(userId);
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Test
+    @DisplayName("cursor 가 없으면 전체 스냅샷과 다음 cursor 를 준다")
+    void noCursorReturnsFullSnapshot() {
+        LocalDateTime old = LocalDateTime.now().minusDays(3);
+        long eventId = fixtures.createEvent(projectId, userId, old.plusDays(10), old);
+        fixtures.addEventMember(eventId, userId);
+        fixtures.addEventLink(eventId, "https://example.com");
+        long memoId = fixtures.createMemo(projectId, userId, LocalDate.now(), old);
+        fixtures.createTombstone(projectId, "MEMO", 1L, null, old);
+
+        long before = System.currentTimeMillis();
+        CalChangesResponse res = calSyncService.getChanges(userId, projectId, null);
+
+        assertThat(res.isFullResync()).isTrue();
+        assertThat(res.getCursor()).isGreaterThanOrEqualTo(before);
+        assertThat(res.getEvents()).extracting(EventResponse::getId).containsExactly(eventId);
+        assertThat(res.getEvents().get(0).getMembers()).hasSize(1);
+        assertThat(res.getEvents().get(0).getUrls()).hasSize(1);
+        assertThat(res.getMemos()).extracting(MemoResponse::getId).containsExactly(String.valueOf(memoId));
+        // 전체 스냅샷에는 삭제 목록이 필요 없음
+        assertThat(res.getDeleted()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("cursor 이전 overlap 구간의 변경은 다시 내려가고 그보다 오래된 변경은 빠진다")
+    void changesWithinOverlapWindowAreReturned() {
+        LocalDateTime since = LocalDateTime.now().minusMinutes(1);
+        LocalDate today = LocalDate.now();
+
+        long tooOld = fixtures.createMemo(projectId, userId, today, since.minusSeconds(30));
+        long inOverlap = fixtures.createMemo(projectId, userId, today, since.minusSeconds(3));
+        long afterCursor = fixtures.createMemo(projectId, userId, today, since.plusSeconds(10));
+        fixtures.createTombstone(projectId, "EVENT", 100L, null, since.minusSeconds(30));
+        fixtures.createTombstone(projectId, "EVENT", 101L, null, since.minusSeconds(3));
+
+        CalChangesResponse res = calSyncService.getChanges(userId, projectId, toMillis(since));
+
+        assertThat(res.isFullResync()).isFalse();
+        assertThat(res.getMemos()).extracting(MemoResponse::getId)
+                .containsExactlyInAnyOrder(String.valueOf(inOverlap), String.valueOf(afterCursor))
+                .doesNotContain(String.valueOf(tooOld));
+        assertThat(res.getDeleted()).extracting(CalChangesResponse.DeletedItem::getId).containsExactly(101L);
+    }
+
+    @Test
+    @DisplayName("이전 응답의 cursor 로 다시 요청하면 그 사이 변경이 빠지지 않는다")
+    void nextCursorDoesNotMissChanges() {
+        CalChangesResponse first = calSyncService.getChanges(userId, projectId, null);
+
+        // 첫 응답 직전에 커밋된 것처럼 cursor 보다 조금 이른 updated_at (overlap 안)
+        LocalDateTime lateCommit = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(first.getCursor() - 2_000), ZoneId.systemDefault());
+        long memoId = fixtures.createMemo(projectId, userId, LocalDate.now(), lateCommit);
+
+        CalChangesResponse second = calSyncService.getChanges(userId, projectId, first.getCursor());
+
+        assertThat(second.isFullResync()).isFalse();
+        assertThat(second.getMemos()).extracting(MemoResponse::getId).contains(String.valueOf(memoId));
+        assertThat(second.getCursor()).isGreaterThanOrEqualTo(first.getCursor());
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 개인 TODO 와 그 tombstone 은 보이지 않는다")
+    void privateTodosAreOwnerOnly() {
+        long other = fixtures.createUser();
+        fixtures.addMember(projectId, other);
+        LocalDateTime since = LocalDateTime.now().minusMinutes(1);
+        LocalDateTime updated = since.plusSeconds(10);
+
+        long mine = fixtures.createPrivateTodo(projectId, userId, updated, updated);
+        fixtures.createPrivateTodo(projectId, other, updated, updated);
+        fixtures.createTombstone(projectId, "PRIVATE_TODO", 200L, userId, updated);
+        fixtures.createTombstone(projectId, "PRIVATE_TODO", 201L, other, updated);
+
+        CalChangesResponse res = calSyncService.getChanges(userId, projectId, toMillis(since));
+
+        assertThat(res.getTodos()).extracting(CalTodoResponse::getId).containsExactly(mine);
+        assertThat(res.getDeleted()).extracting(CalChangesResponse.DeletedItem::getId).containsExactly(200L);
+    }
+
+    @Test
+    @DisplayName("tombstone 보관기간보다 오래된 cursor 는 전체 재동기화")
+    void expiredCursorForcesFullResync() {
+        long since = toMillis(LocalDateTime.now().minusDays(31));
+
+        CalChangesResponse res = calSyncService.getChanges(userId, projectId, since);
+
+        assertThat(res.isFullResync()).isTrue();
+        assertThat(res.getDeleted()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("음수 cursor 는 400, 멤버가 아니면 403")
+    void rejectsBadCursorAndNonMember() {
+        assertThatThrownBy(() -> calSyncService.getChanges(userId, projectId, -1L))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+
+        long stranger = fixtures.createUser();
+        assertThatThrownBy(() -> calSyncService.getChanges(stranger, projectId, null))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.FORBIDDEN));
+    }
+}
@@ -0,0 +1,97 @@
+package cola.springboot.cocal.cal;
+
+import cola.springboot.cocal.support.IntegrationTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectVersionTrackerTest extends IntegrationTestSupport {
+
+    @Autowired
+    ProjectVersionTracker tracker;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private static long newId() {
+        return ThreadLocalRandom.current().nextLong(1_000_000, Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("처음에는 0이고 커밋된 증가만 보인다")
+    void startsAtZeroAndOnlyCommittedBumpsAreVisible() {
+        long projectId = newId();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        assertThat(tracker.current(projectId)).isZero();
+
+        tx.executeWithoutResult(s -> tracker.bump(projectId));
+        tx.executeWithoutResult(s -> tracker.bump(projectId));
+        assertThat(tracker.current(projectId)).isEqualTo(2);
+
+        // 롤백된 쓰기는 버전을 올리지 않음
+        tx.executeWithoutResult(s -> {
+            tracker.bump(projectId);
+            s.setRollbackOnly();
+        });
+        assertThat(tracker.current(projectId)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 서버의 증가도 같은 버전으로 보인다")
+    void bumpOnAnotherNodeIsVisible() {
+        long projectId = newId();
+        // 같은 DB 를 쓰는 다른 서버 인스턴스
+        ProjectVersionTracker otherNode = new ProjectVersionTracker(jdbcTemplate);
+
+        otherNode.bump(projectId);
+
+        assertThat(tracker.current(projectId)).isEqualTo(1);
+        assertThat(otherNode.current(projectId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종류별 버전은 서로 독립적이다")
+    void kindsAreIndependent() {
+        long id = newId();
+
+        tracker.bump(id);
+        tracker.bumpTodos(id);
+        tracker.bumpTodos(id);
+        tracker.bumpUserTodos(id);
+        tracker.bumpUserTodos(id);
+        tracker.bumpUserTodos(id);
+
+        assertThat(tracker.current(id)).isEqualTo(1);
+        assertThat(tracker.currentTodos(id)).isEqualTo(2);
+        assertThat(tracker.currentUserTodos(id)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("TODO 버전 묶음은 한 번에 조회되고 없는 항목은 0")
+    void todoVersionsAreReadTogether() {
+        long projectId = newId();
+        long userId = newId();
+
+        assertThat(tracker.currentTodoVersions(projectId, userId))
+                .isEqualTo(new ProjectVersionTracker.TodoVersions(0, 0, 0));
+
+        tracker.bump(projectId);
+        tracker.bumpTodos(projectId);
+        tracker.bumpTodos(projectId);
+        tracker.bumpUserTodos(userId);
+        // 다른 사용자의 개인 TODO 버전은 섞이지 않음
+        tracker.bumpUserTodos(newId());
+
+        assertThat(tracker.currentTodoVersions(projectId, userId))
+                .isEqualTo(new ProjectVersionTracker.TodoVersions(1, 2, 1));
+    }
+}
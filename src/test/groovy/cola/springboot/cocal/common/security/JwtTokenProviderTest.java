@@ -0,0 +1,115 @@
+package cola.springboot.cocal.common.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Encoders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class JwtTokenProviderTest {
+
+    private static final String OLD_SECRET = secret('a');
+    private static final String CURRENT_SECRET = secret('b');
+
+    // HS256 은 256bit 이상 키 필요
+    private static String secret(char c) {
+        return Encoders.BASE64.encode(String.valueOf(c).repeat(32).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static JwtTokenProvider provider(String secretBase64, String keyId, Map<String, String> previousSecrets) {
+        JwtTokenProperties props = new JwtTokenProperties();
+        props.setIssuer("test-issuer");
+        props.setAudience("test-audience");
+        props.setSecretBase64(secretBase64);
+        props.setKeyId(keyId);
+        props.setPreviousSecrets(previousSecrets);
+        return new JwtTokenProvider(props);
+    }
+
+    // 교체 후: 현재 키 k2, 이전 키 k1 은 검증용으로만 남김
+    private final JwtTokenProvider rotated = provider(CURRENT_SECRET, "k2", Map.of("k1", OLD_SECRET));
+
+    private static String token(JwtTokenProvider provider) {
+        return provider.createAccessToken(1L, "user@test.local", List.of("ROLE_USER"));
+    }
+
+    @Test
+    @DisplayName("교체 전 키(previous-secrets)로 서명된 토큰도 kid 로 찾아 검증한다")
+    void previousKeyStillValidates() {
+        String oldToken = token(provider(OLD_SECRET, "k1", Map.of()));
+
+        assertThat(rotated.getClaims(oldToken).getSubject()).isEqualTo("1");
+        assertThat(rotated.isValid(oldToken)).isTrue();
+    }
+
+    @Test
+    @DisplayName("새로 발급하는 토큰은 현재 kid 로 서명된다")
+    void newTokensCarryCurrentKid() {
+        String newToken = token(rotated);
+
+        assertThat(rotated.parseAndValidate(newToken).getHeader().getKeyId()).isEqualTo("k2");
+        // 이전 키만 아는 서버에서는 검증되지 않음
+        assertThat(provider(OLD_SECRET, "k1", Map.of()).isValid(newToken)).isFalse();
+    }
+
+    @Test
+    @DisplayName("모르는 kid 는 거절한다")
+    void unknownKidIsRejected() {
+        String foreign = token(provider(secret('c'), "k9", Map.of()));
+
+        assertThatThrownBy(() -> rotated.getClaims(foreign)).isInstanceOf(UnsupportedJwtException.class);
+        assertThat(rotated.isValid(foreign)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이전 키 목록에서 빠진 kid 는 더 이상 검증되지 않는다")
+    void retiredKidIsRejected() {
+        String oldToken = token(provider(OLD_SECRET, "k1", Map.of()));
+
+        assertThat(provider(CURRENT_SECRET, "k2", Map.of()).isValid(oldToken)).isFalse();
+    }
+
+    @Test
+    @DisplayName("kid 가 없는 토큰(키 교체 기능 이전 발급분)은 현재 키로 검증한다")
+    void tokenWithoutKidUsesCurrentKey() {
+        String legacyCurrent = token(provider(CURRENT_SECRET, null, Map.of()));
+        String legacyOld = token(provider(OLD_SECRET, null, Map.of()));
+
+        assertThat(rotated.parseAndValidate(legacyCurrent).getHeader().getKeyId()).isNull();
+        assertThat(rotated.isValid(legacyCurrent)).isTrue();
+        // 이전 키로 서명됐어도 kid 가 없으면 이전 키로 찾지 않음
+        assertThatThrownBy(() -> rotated.getClaims(legacyOld)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("검증된 Claims 에서 userId 를 꺼낼 때 다시 파싱하지 않는다")
+    void getUserIdFromClaimsDoesNotReparse() {
+        Claims claims = rotated.getClaims(token(rotated));
+        JwtTokenProvider provider = spy(rotated);
+
+        assertThat(provider.getUserId(claims)).isEqualTo(1L);
+        verify(provider, never()).parseAndValidate(anyString());
+        verify(provider, never()).getClaims(anyString());
+    }
+
+    @Test
+    @DisplayName("uid 클레임이 없으면 subject 로 userId 를 꺼낸다")
+    void getUserIdFallsBackToSubject() {
+        Claims claims = Jwts.claims().subject("42").build();
+
+        assertThat(rotated.getUserId(claims)).isEqualTo(42L);
+    }
+}
@@ -0,0 +1,116 @@
+package cola.springboot.cocal.common.security;
+
+import cola.springboot.cocal.auth.TokenBlacklistService;
+import cola.springboot.cocal.projectMember.ProjectMember;
+import cola.springboot.cocal.projectMember.ProjectMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StompAuthChannelInterceptorTest {
+
+    private static final long USER_ID = 7L;
+
+    private final JwtTokenProvider jwt = mock(JwtTokenProvider.class);
+    private final TokenBlacklistService blacklist = mock(TokenBlacklistService.class);
+    private final ProjectMemberRepository projectMembers = mock(ProjectMemberRepository.class);
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private StompAuthChannelInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new StompAuthChannelInterceptor(jwt, blacklist, projectMembers);
+        when(projectMembers.existsByProjectIdAndUserIdAndStatus(any(), any(), any())).thenReturn(false);
+        when(projectMembers.existsByProjectIdAndUserIdAndStatus(eq(1L), eq(USER_ID), eq(ProjectMember.MemberStatus.ACTIVE)))
+                .thenReturn(true);
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String destination, boolean authenticated) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setDestination(destination);
+        if (authenticated) {
+            accessor.setUser(new UsernamePasswordAuthenticationToken(String.valueOf(USER_ID), null, List.of()));
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    @Test
+    @DisplayName("토큰 없는 CONNECT 는 거절")
+    void connectWithoutTokenIsRejected() {
+        when(jwt.resolveFromAuthorization(any())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.CONNECT, null, false), channel))
+                .isInstanceOf(MessagingException.class);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = StompCommand.class, names = {"SUBSCRIBE", "UNSUBSCRIBE", "SEND", "ACK", "NACK", "BEGIN", "COMMIT", "ABORT"})
+    @DisplayName("인증 안 된 세션의 CONNECT 외 프레임은 거절")
+    void unauthenticatedFramesAreRejected(StompCommand command) {
+        assertThatThrownBy(() -> interceptor.preSend(frame(command, "/app/ping", false), channel))
+                .isInstanceOf(MessagingException.class)
+                .hasMessageContaining("인증되지 않은");
+    }
+
+    @Test
+    @DisplayName("DISCONNECT 는 세션 정리를 위해 통과")
+    void disconnectPassesThrough() {
+        Message<byte[]> message = frame(StompCommand.DISCONNECT, null, false);
+
+        assertThat(interceptor.preSend(message, channel)).isSameAs(message);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/topic/projects/1", "/topic/anything", "/user/queue/x", "/apple"})
+    @DisplayName("브로커 경로로의 SEND 는 인증된 멤버라도 거절")
+    void sendToBrokerIsRejected(String destination) {
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SEND, destination, true), channel))
+                .isInstanceOf(MessagingException.class)
+                .hasMessageContaining("전송할 수 없는");
+    }
+
+    @Test
+    @DisplayName("목적지 없는 SEND 는 거절, 애플리케이션 경로 SEND 는 통과")
+    void sendOnlyToApplicationPrefix() {
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SEND, null, true), channel))
+                .isInstanceOf(MessagingException.class);
+
+        Message<byte[]> message = frame(StompCommand.SEND, "/app/ping", true);
+        assertThat(interceptor.preSend(message, channel)).isSameAs(message);
+    }
+
+    @Test
+    @DisplayName("프로젝트 구독은 ACTIVE 멤버만")
+    void subscribeRequiresMembership() {
+        Message<byte[]> member = frame(StompCommand.SUBSCRIBE, "/topic/projects/1", true);
+        assertThat(interceptor.preSend(member, channel)).isSameAs(member);
+
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/topic/projects/2", true), channel))
+                .isInstanceOf(MessagingException.class);
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/topic/projects/abc", true), channel))
+                .isInstanceOf(MessagingException.class);
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/topic/other", true), channel))
+                .isInstanceOf(MessagingException.class);
+    }
+}
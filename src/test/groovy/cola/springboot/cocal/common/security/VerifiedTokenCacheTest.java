@@ -0,0 +1,82 @@
+package cola.springboot.cocal.common.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedTokenCacheTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    private VerifiedTokenCache.Verified verify(long userId, long expiresAtMillis) {
+        verifications.incrementAndGet();
+        return new VerifiedTokenCache.Verified(userId, List.of(), null, expiresAtMillis);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 exp 전까지 한 번만 검증한다")
+    void cachesUntilExp() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, clock::get);
+        long exp = clock.get() + 60_000;
+
+        cache.get("token-a", () -> verify(1L, exp));
+        cache.get("token-a", () -> verify(1L, exp));
+        assertThat(verifications).hasValue(1);
+
+        clock.set(exp);
+        cache.get("token-a", () -> verify(1L, exp));
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰과 검증에 실패한 토큰은 저장하지 않는다")
+    void doesNotCacheExpiredOrFailed() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, clock::get);
+
+        cache.get("expired", () -> verify(1L, clock.get() - 1));
+        cache.get("expired", () -> verify(1L, clock.get() - 1));
+        assertThat(verifications).hasValue(2);
+
+        assertThatThrownBy(() -> cache.get("forged", () -> { throw new IllegalStateException("bad signature"); }))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("evict 하면 다음 요청에서 다시 검증한다")
+    void evictForcesReverification() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, clock::get);
+        long exp = clock.get() + 60_000;
+
+        cache.get("token-a", () -> verify(1L, exp));
+        cache.evict("token-a");
+        cache.get("token-a", () -> verify(1L, exp));
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 토큰부터 제거한다")
+    void evictsLeastRecentlyUsed() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, clock::get);
+        long exp = clock.get() + 60_000;
+
+        cache.get("a", () -> verify(1L, exp));
+        cache.get("b", () -> verify(2L, exp));
+        cache.get("a", () -> verify(1L, exp));
+        cache.get("c", () -> verify(3L, exp));
+        assertThat(verifications).hasValue(3);
+
+        cache.get("a", () -> verify(1L, exp));
+        assertThat(verifications).hasValue(3);
+        cache.get("b", () -> verify(2L, exp));
+        assertThat(verifications).hasValue(4);
+    }
+}
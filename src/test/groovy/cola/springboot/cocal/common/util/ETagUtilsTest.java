@@ -0,0 +1,60 @@
+package cola.springboot.cocal.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ETagUtilsTest {
+
+    private static final String ETAG = ETagUtils.strong("cal", 1L, 3L);
+
+    @Test
+    @DisplayName("strong 은 값을 '-' 로 이어 따옴표로 감싼다")
+    void strongJoinsParts() {
+        assertThat(ETAG).isEqualTo("\"cal-1-3\"");
+    }
+
+    @Test
+    @DisplayName("같은 태그면 일치")
+    void matchesExactTag() {
+        assertThat(ETagUtils.matches("\"cal-1-3\"", ETAG)).isTrue();
+        assertThat(ETagUtils.matches("\"cal-1-4\"", ETAG)).isFalse();
+    }
+
+    @Test
+    @DisplayName("W/ 접두사(weak)는 무시하고 비교")
+    void matchesWeakTag() {
+        assertThat(ETagUtils.matches("W/\"cal-1-3\"", ETAG)).isTrue();
+        assertThat(ETagUtils.matches("W/\"cal-1-4\"", ETAG)).isFalse();
+    }
+
+    @Test
+    @DisplayName("* 는 항상 일치")
+    void matchesWildcard() {
+        assertThat(ETagUtils.matches("*", ETAG)).isTrue();
+        assertThat(ETagUtils.matches(" * ", ETAG)).isTrue();
+    }
+
+    @Test
+    @DisplayName("쉼표 목록 중 하나라도 같으면 일치")
+    void matchesList() {
+        assertThat(ETagUtils.matches("\"a\", W/\"cal-1-3\" ,\"b\"", ETAG)).isTrue();
+        assertThat(ETagUtils.matches("\"a\",\"b\"", ETAG)).isFalse();
+    }
+
+    @Test
+    @DisplayName("헤더가 없거나 비어 있으면 불일치")
+    void noHeaderDoesNotMatch() {
+        assertThat(ETagUtils.matches(null, ETAG)).isFalse();
+        assertThat(ETagUtils.matches("", ETAG)).isFalse();
+        assertThat(ETagUtils.matches("  ", ETAG)).isFalse();
+        assertThat(ETagUtils.matches("*", null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("따옴표가 없는 값은 다른 태그로 본다")
+    void unquotedDoesNotMatch() {
+        assertThat(ETagUtils.matches("cal-1-3", ETAG)).isFalse();
+    }
+}
@@ -0,0 +1,70 @@
+package cola.springboot.cocal.common.util;
+
+import cola.springboot.cocal.common.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    private static String b64(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("encode 한 커서는 같은 값으로 decode 된다")
+    void roundTrip() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2031, 1, 31, 23, 59, 59, 123_456_000), 42L);
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("초가 0인 시각도 그대로 복원된다")
+    void roundTripWithoutSeconds() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2031, 1, 1, 0, 0), Long.MAX_VALUE);
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("URL 에 그대로 쓸 수 있는 문자만 사용한다")
+    void encodedIsUrlSafe() {
+        String encoded = new KeysetCursor(LocalDateTime.of(2031, 6, 15, 12, 30), 7L).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"not base64!", "%%%"})
+    @DisplayName("base64 가 아니면 INVALID_CURSOR")
+    void rejectsNonBase64(String cursor) {
+        assertInvalid(cursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2031-01-01T00:00", "2031-01-01T00:00|", "not-a-date|1", "2031-01-01T00:00|abc", "|1"})
+    @DisplayName("형식이 틀린 내용이면 INVALID_CURSOR")
+    void rejectsMalformedContent(String raw) {
+        assertInvalid(b64(raw));
+    }
+
+    private static void assertInvalid(String cursor) {
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor))
+                .isInstanceOfSatisfying(BusinessException.class, e -> {
+                    assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+                    assertThat(e.getCode()).isEqualTo("INVALID_CURSOR");
+                });
+    }
+}
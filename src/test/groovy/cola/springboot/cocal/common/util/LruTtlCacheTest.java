@@ -0,0 +1,124 @@
+package cola.springboot.cocal.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LruTtlCacheTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000);
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거한다")
+    void evictsLeastRecentlyUsed() {
+        LruTtlCache<String, Integer> cache = new LruTtlCache<>(2, 60_000, clock::get);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.getIfPresent("a"); // a 를 최근 사용으로
+        cache.put("c", 3);
+
+        assertThat(cache.getIfPresent("b")).isNull();
+        assertThat(cache.getIfPresent("a")).isEqualTo(1);
+        assertThat(cache.getIfPresent("c")).isEqualTo(3);
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+        assertThat(cache.stats().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 조회되지 않고 제거된다")
+    void expiresAfterTtl() {
+        LruTtlCache<String, Integer> cache = new LruTtlCache<>(10, 1_000, clock::get);
+        cache.put("a", 1);
+
+        clock.addAndGet(999);
+        assertThat(cache.getIfPresent("a")).isEqualTo(1);
+        clock.addAndGet(1);
+        assertThat(cache.getIfPresent("a")).isNull();
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("loader 는 미스일 때만 부르고, 만료 후에는 다시 부른다")
+    void loaderRunsOnlyOnMiss() {
+        LruTtlCache<String, Integer> cache = new LruTtlCache<>(10, 1_000, clock::get);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(cache.get("a", calls::incrementAndGet)).isEqualTo(1);
+        assertThat(cache.get("a", calls::incrementAndGet)).isEqualTo(1);
+        clock.addAndGet(1_000);
+        assertThat(cache.get("a", calls::incrementAndGet)).isEqualTo(2);
+
+        LruTtlCache.Stats stats = cache.stats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("만료 시각을 직접 주면 그 시각까지만 유지하고, 이미 지났으면 저장하지 않는다")
+    void explicitExpiry() {
+        LruTtlCache<String, Integer> cache = new LruTtlCache<>(10, Long.MAX_VALUE, clock::get);
+        cache.put("a", 1, clock.get() + 500);
+        cache.put("b", 2, clock.get());
+
+        assertThat(cache.getIfPresent("b")).isNull();
+        clock.addAndGet(499);
+        assertThat(cache.getIfPresent("a")).isEqualTo(1);
+        clock.addAndGet(1);
+        assertThat(cache.getIfPresent("a")).isNull();
+    }
+
+    @Test
+    @DisplayName("TTL 이 아주 커도 만료 시각이 overflow 되지 않는다")
+    void hugeTtlDoesNotOverflow() {
+        LruTtlCache<String, Integer> cache = new LruTtlCache<>(10, Long.MAX_VALUE, clock::get);
+        cache.put("a", 1);
+
+        clock.set(Long.MAX_VALUE - 1);
+        assertThat(cache.getIfPresent("a")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("computeIfPresent 는 있는 항목만 바꾸고 만료 시각은 유지한다")
+    void computeIfPresentKeepsExpiry() {
+        LruTtlCache<String, Integer> cache = new LruTtlCache<>(10, 1_000, clock::get);
+        cache.put("a", 1);
+        clock.addAndGet(600);
+        cache.computeIfPresent("a", v -> v + 10);
+        cache.computeIfPresent("missing", v -> v + 10);
+
+        assertThat(cache.getIfPresent("a")).isEqualTo(11);
+        assertThat(cache.getIfPresent("missing")).isNull();
+        clock.addAndGet(400);
+        assertThat(cache.getIfPresent("a")).isNull();
+    }
+
+    @Test
+    @DisplayName("remove / removeIf 로 항목을 지운다")
+    void removeAndRemoveIf() {
+        LruTtlCache<String, Integer> cache = new LruTtlCache<>(10, 1_000, clock::get);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+
+        cache.remove("a");
+        cache.removeIf(v -> v % 2 == 0);
+
+        assertThat(cache.getIfPresent("a")).isNull();
+        assertThat(cache.getIfPresent("b")).isNull();
+        assertThat(cache.getIfPresent("c")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("크기나 TTL 이 0 이하면 만들 수 없다")
+    void rejectsNonPositiveBounds() {
+        assertThatThrownBy(() -> new LruTtlCache<String, Integer>(0, 1_000))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LruTtlCache<String, Integer>(10, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
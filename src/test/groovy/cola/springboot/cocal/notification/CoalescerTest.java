@@ -0,0 +1,67 @@
+package cola.springboot.cocal.notification;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoalescerTest {
+
+    private static final long DEBOUNCE = 2_000;
+    private static final long MAX_WAIT = 10_000;
+
+    @Test
+    @DisplayName("마지막 변경 후 debounce 만큼 조용해야 꺼낸다")
+    void debounceWaitsForQuietPeriod() {
+        Coalescer<String> coalescer = new Coalescer<>(DEBOUNCE, MAX_WAIT);
+        coalescer.touch("a", 0);
+        coalescer.touch("a", 1_000);
+
+        assertThat(coalescer.drainReady(2_999)).isEmpty();
+        assertThat(coalescer.drainReady(3_000)).containsExactly("a");
+        assertThat(coalescer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 번 바뀌어도 한 번만 꺼낸다")
+    void burstIsCoalescedIntoOne() {
+        Coalescer<String> coalescer = new Coalescer<>(DEBOUNCE, MAX_WAIT);
+        for (int i = 0; i < 5; i++) {
+            coalescer.touch("a", i * 100L);
+        }
+
+        assertThat(coalescer.size()).isEqualTo(1);
+        assertThat(coalescer.drainReady(5_000)).containsExactly("a");
+        assertThat(coalescer.drainReady(10_000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경이 계속 들어와도 첫 변경 후 maxWait 이 지나면 꺼낸다")
+    void maxWaitBoundsTheDelay() {
+        Coalescer<String> coalescer = new Coalescer<>(DEBOUNCE, MAX_WAIT);
+        long now = 0;
+        for (; now < MAX_WAIT; now += 1_000) {
+            coalescer.touch("a", now);
+            assertThat(coalescer.drainReady(now)).isEmpty();
+        }
+
+        coalescer.touch("a", now);
+        assertThat(coalescer.drainReady(now)).containsExactly("a");
+
+        // 꺼낸 뒤의 변경은 새로 대기 시작
+        coalescer.touch("a", now + 1);
+        assertThat(coalescer.drainReady(now + 1_000)).isEmpty();
+        assertThat(coalescer.drainReady(now + 1 + DEBOUNCE)).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("키마다 따로 대기한다")
+    void keysAreIndependent() {
+        Coalescer<String> coalescer = new Coalescer<>(DEBOUNCE, MAX_WAIT);
+        coalescer.touch("a", 0);
+        coalescer.touch("b", 1_500);
+
+        assertThat(coalescer.drainReady(2_000)).containsExactly("a");
+        assertThat(coalescer.drainReady(3_500)).containsExactly("b");
+    }
+}
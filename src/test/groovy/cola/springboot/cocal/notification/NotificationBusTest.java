@@ -0,0 +1,168 @@
+package cola.springboot.cocal.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class NotificationBusTest {
+
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+    private static final String CHANNEL = "cocal_notification";
+
+    // 서버 한 대 (SseHub, DB 는 mock)
+    private static final class Node {
+        final SseHub sseHub = mock(SseHub.class);
+        final NotificationRepository repository = mock(NotificationRepository.class);
+        final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        final NotificationBus bus;
+
+        Node(boolean enabled) {
+            PlatformTransactionManager tm = mock(PlatformTransactionManager.class);
+            when(tm.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+            bus = new NotificationBus(sseHub, repository, jdbcTemplate, new ObjectMapper(),
+                    new DataSourceProperties(), tm, enabled);
+        }
+
+        // pg_notify 로 보낸 payload 들
+        @SuppressWarnings("unchecked")
+        List<String> published(int times) {
+            ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+            verify(jdbcTemplate, times(times))
+                    .query(eq(NOTIFY_SQL), any(ResultSetExtractor.class), eq(CHANNEL), payload.capture());
+            return payload.getAllValues().stream().map(String::valueOf).toList();
+        }
+    }
+
+    private static NotificationResponse response(long id) {
+        return NotificationResponse.builder().id(id).type("INVITE").title("t" + id).build();
+    }
+
+    private static Notification entity(long id, long userId) {
+        return Notification.builder().id(id).userId(userId).type("INVITE").title("t" + id).build();
+    }
+
+    @Test
+    @DisplayName("꺼져 있으면 이 서버 SSE 로만 보내고 pg_notify 는 부르지 않는다")
+    void disabledDeliversLocallyOnly() {
+        Node node = new Node(false);
+        NotificationResponse response = response(10);
+
+        node.bus.publish(1L, response);
+
+        verify(node.sseHub).send(1L, response);
+        verifyNoInteractions(node.jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("켜져 있으면 이 서버 SSE 로 보내고 다른 서버에는 (사용자, 알림 ID)만 알린다")
+    void enabledDeliversLocallyAndNotifies() {
+        Node node = new Node(true);
+        NotificationResponse response = response(10);
+
+        node.bus.publish(1L, response);
+
+        verify(node.sseHub).send(1L, response);
+        assertThat(node.published(1)).singleElement()
+                .asString()
+                .contains("[1,10]")
+                .doesNotContain("t10");
+    }
+
+    @Test
+    @DisplayName("다른 서버는 자기 서버에 연결된 사용자 것만 DB 에서 읽어 보낸다")
+    void otherNodeDeliversToConnectedUsers() {
+        Node sender = new Node(true);
+        Node receiver = new Node(true);
+        sender.bus.publishAll(List.of(
+                new NotificationBus.Delivery(1L, response(10)),
+                new NotificationBus.Delivery(2L, response(20))));
+        String payload = sender.published(1).get(0);
+        when(receiver.sseHub.hasConnections(1L)).thenReturn(true);
+        when(receiver.repository.findAllById(Set.of(10L))).thenReturn(List.of(entity(10, 1)));
+
+        receiver.bus.handle(payload);
+
+        ArgumentCaptor<NotificationResponse> delivered = ArgumentCaptor.forClass(NotificationResponse.class);
+        verify(receiver.sseHub).send(eq(1L), delivered.capture());
+        assertThat(delivered.getValue().getId()).isEqualTo(10L);
+        verify(receiver.sseHub, never()).send(eq(2L), any());
+    }
+
+    @Test
+    @DisplayName("자기가 보낸 메시지는 이미 보냈으므로 무시한다")
+    void ownMessageIsSkipped() {
+        Node node = new Node(true);
+        node.bus.publish(1L, response(10));
+        String payload = node.published(1).get(0);
+        when(node.sseHub.hasConnections(anyLong())).thenReturn(true);
+
+        node.bus.handle(payload);
+
+        // publish 때 한 번만
+        verify(node.sseHub, times(1)).send(eq(1L), any());
+        verifyNoInteractions(node.repository);
+    }
+
+    @Test
+    @DisplayName("연결된 사용자가 없으면 DB 를 읽지 않는다")
+    void noLocalConnectionsSkipsLookup() {
+        Node sender = new Node(true);
+        Node receiver = new Node(true);
+        sender.bus.publish(1L, response(10));
+
+        receiver.bus.handle(sender.published(1).get(0));
+
+        verifyNoInteractions(receiver.repository);
+        verify(receiver.sseHub, never()).send(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("많으면 pg_notify payload 제한(8000 bytes) 안으로 나눠 보낸다")
+    void largeBatchesAreChunked() {
+        Node sender = new Node(true);
+        List<NotificationBus.Delivery> deliveries = new ArrayList<>();
+        for (long i = 0; i < 450; i++) {
+            // 큰 ID 로 payload 크기 최악에 가깝게
+            deliveries.add(new NotificationBus.Delivery(1_000_000_000L + i, response(9_000_000_000L + i)));
+        }
+
+        sender.bus.publishAll(deliveries);
+
+        List<String> payloads = sender.published(3);
+        assertThat(payloads).allSatisfy(p ->
+                assertThat(p.getBytes(StandardCharsets.UTF_8).length).isLessThan(8000));
+
+        // 받는 쪽에서 모두 복원됨
+        Node receiver = new Node(true);
+        when(receiver.sseHub.hasConnections(anyLong())).thenReturn(true);
+        when(receiver.repository.findAllById(any())).thenReturn(List.of());
+        payloads.forEach(receiver.bus::handle);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<Long>> ids = ArgumentCaptor.forClass(Iterable.class);
+        verify(receiver.repository, times(3)).findAllById(ids.capture());
+        assertThat(ids.getAllValues()).extracting(it -> ((Set<?>) it).size()).containsExactly(200, 200, 50);
+    }
+}
@@ -0,0 +1,74 @@
+package cola.springboot.cocal.notification;
+
+import cola.springboot.cocal.common.exception.BusinessException;
+import cola.springboot.cocal.support.IntegrationTestSupport;
+import cola.springboot.cocal.support.TestFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NotificationInboxPagingTest extends IntegrationTestSupport {
+
+    @Autowired
+    NotificationService notificationService;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private long insert(long userId, LocalDateTime sentAt) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO notifications (user_id, type, reference_id, title, sent_at, is_read)
+                VALUES (?, 'INVITE', 1, 'n', ?, FALSE)
+                RETURNING id
+                """, Long.class, userId, sentAt);
+    }
+
+    @Test
+    @DisplayName("cursor 로 끝까지 넘기면 sent_at 이 같은 알림까지 중복/누락 없이 최신순으로 나온다")
+    void pagesThroughTiesWithoutGapsOrDuplicates() {
+        long userId = new TestFixtures(jdbcTemplate).createUser();
+        LocalDateTime base = LocalDateTime.of(2031, 1, 1, 12, 0, 0, 123_456_000);
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            expected.add(insert(userId, base));                 // 같은 시각 3건
+        }
+        expected.add(insert(userId, base.plusSeconds(1)));
+        expected.add(insert(userId, base.minusSeconds(1)));
+        // 다른 사용자 알림은 섞이지 않음
+        insert(new TestFixtures(jdbcTemplate).createUser(), base);
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            NotificationPageResponse page = notificationService.getInbox(userId, cursor, 2);
+            page.getItems().forEach(n -> seen.add(n.getId()));
+            cursor = page.getNextCursor();
+            assertThat(page.isHasNext()).isEqualTo(cursor != null);
+        } while (cursor != null);
+
+        // sent_at DESC, id DESC
+        List<Long> tie = expected.subList(0, 3).stream().sorted(Comparator.reverseOrder()).toList();
+        List<Long> ordered = new ArrayList<>();
+        ordered.add(expected.get(3));
+        ordered.addAll(tie);
+        ordered.add(expected.get(4));
+        assertThat(seen).containsExactlyElementsOf(ordered);
+    }
+
+    @Test
+    @DisplayName("잘못된 cursor 는 400")
+    void rejectsBadCursor() {
+        assertThatThrownBy(() -> notificationService.getInbox(1L, "not-a-cursor", 10))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}
@@ -0,0 +1,135 @@
+package cola.springboot.cocal.notification;
+
+import cola.springboot.cocal.support.IntegrationTestSupport;
+import cola.springboot.cocal.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// uk_notifications_reminder (user_id, reference_id, type, remind_at) 동작
+class ReminderNotificationDedupTest extends IntegrationTestSupport {
+
+    private static final LocalDateTime A = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MINUTES);
+    private static final LocalDateTime B = A.plusHours(2);
+
+    @Autowired
+    NotificationService notificationService;
+    @Autowired
+    NotificationRepository notificationRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    long userId;
+    long eventId;
+
+    @BeforeEach
+    void setUp() {
+        userId = new TestFixtures(jdbcTemplate).createUser();
+        eventId = ThreadLocalRandom.current().nextLong(1_000_000, Long.MAX_VALUE);
+    }
+
+    private Notification draft(LocalDateTime remindAt) {
+        return Notification.builder()
+                .userId(userId)
+                .type("EVENT")
+                .referenceId(eventId)
+                .remindAt(remindAt)
+                .title("곧 시작하는 이벤트: test")
+                .message("이벤트가 지금 시작합니다.")
+                .build();
+    }
+
+    private List<Boolean> readFlags() {
+        return jdbcTemplate.queryForList(
+                "SELECT is_read FROM notifications WHERE user_id = ? AND reference_id = ? ORDER BY id",
+                Boolean.class, userId, eventId);
+    }
+
+    private void markAllRead() {
+        jdbcTemplate.update("UPDATE notifications SET is_read = TRUE WHERE user_id = ? AND reference_id = ?", userId, eventId);
+    }
+
+    // ReminderService.flushTimeChanges 의 정리 단계
+    private void clearStale(LocalDateTime newRemindAt) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                s -> notificationRepository.deleteStaleReminders(eventId, "EVENT", newRemindAt));
+    }
+
+    @Test
+    @DisplayName("같은 알림 시각의 알림은 한 번만 들어간다")
+    void sameRemindAtIsInsertedOnce() {
+        assertThat(notificationService.sendReminderNotifications(List.of(draft(A)))).hasSize(1);
+        assertThat(notificationService.sendReminderNotifications(List.of(draft(A)))).isEmpty();
+        // 한 배치 안의 중복도 1건
+        assertThat(notificationService.sendReminderNotifications(List.of(draft(B), draft(B)))).hasSize(1);
+
+        assertThat(readFlags()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("읽은 알림이 있어도 시간이 바뀐 새 알림은 들어간다")
+    void readReminderDoesNotBlockNewTime() {
+        notificationService.sendReminderNotifications(List.of(draft(A)));
+        markAllRead();
+
+        clearStale(B);
+        assertThat(notificationService.sendReminderNotifications(List.of(draft(B)))).hasSize(1);
+
+        // 읽은 이전 알림은 기록으로 남음
+        assertThat(readFlags()).containsExactly(true, false);
+    }
+
+    @Test
+    @DisplayName("읽지 않은 이전 시각 알림은 시간 변경 시 정리된다")
+    void unreadOldReminderIsCleared() {
+        notificationService.sendReminderNotifications(List.of(draft(A)));
+
+        clearStale(B);
+        notificationService.sendReminderNotifications(List.of(draft(B)));
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT remind_at FROM notifications WHERE user_id = ? AND reference_id = ?",
+                LocalDateTime.class, userId, eventId)).containsExactly(B);
+    }
+
+    @Test
+    @DisplayName("A→B→A 로 되돌려도 A 알림이 다시 들어간다")
+    void revertToEarlierTimeSendsAgain() {
+        notificationService.sendReminderNotifications(List.of(draft(A)));
+        markAllRead();
+        clearStale(B);
+        notificationService.sendReminderNotifications(List.of(draft(B)));
+        markAllRead();
+
+        clearStale(A);
+        assertThat(notificationService.sendReminderNotifications(List.of(draft(A)))).hasSize(1);
+        assertThat(readFlags()).containsExactly(true, false);
+    }
+
+    @Test
+    @DisplayName("알림 시각이 없는 기존 알림은 서로 충돌하지 않는다")
+    void legacyRowsWithoutRemindAtDoNotConflict() {
+        for (int i = 0; i < 2; i++) {
+            jdbcTemplate.update("""
+                    INSERT INTO notifications (user_id, type, reference_id, title, sent_at, is_read)
+                    VALUES (?, 'EVENT', ?, 'legacy', now(), TRUE)
+                    """, userId, eventId);
+        }
+
+        assertThat(notificationService.sendReminderNotifications(List.of(draft(A)))).hasSize(1);
+        assertThat(readFlags()).hasSize(3);
+    }
+}
@@ -0,0 +1,126 @@
+package cola.springboot.cocal.notification;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReminderWheelTest {
+
+    // 1000 = 16분 40초
+    private static final long NOW = 1_000;
+    private static final ReminderWheel.Key A = new ReminderWheel.Key("EVENT", 1L);
+    private static final ReminderWheel.Key B = new ReminderWheel.Key("PRIVATE_TODO", 1L);
+
+    @Test
+    @DisplayName("1분 안의 예약은 초 단위 칸에서 정확한 초에 나온다")
+    void secondsWheelFiresOnTime() {
+        ReminderWheel wheel = new ReminderWheel(NOW);
+        wheel.schedule(A, NOW + 10);
+
+        assertThat(wheel.advance(NOW + 9)).isEmpty();
+        assertThat(wheel.advance(NOW + 10)).containsExactly(A);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("분 경계를 넘는 1분 미만 예약도 한 바퀴 일찍 나오지 않는다")
+    void secondsWheelAcrossMinuteBoundary() {
+        ReminderWheel wheel = new ReminderWheel(NOW);
+        // 1050 = 17분 30초, 초 칸 30 은 1010 이 아니라 1050 에 처음 돈다
+        wheel.schedule(A, NOW + 50);
+
+        assertThat(wheel.advance(NOW + 49)).isEmpty();
+        assertThat(wheel.advance(NOW + 50)).containsExactly(A);
+    }
+
+    @Test
+    @DisplayName("분 단위 칸의 예약은 해당 분이 되면 초 칸으로 내려가 정확한 초에 나온다")
+    void minuteWheelCascadesToSeconds() {
+        ReminderWheel wheel = new ReminderWheel(NOW);
+        // 1125 = 18분 45초 → 1080(18분 0초)에 초 칸 45로 내려감
+        wheel.schedule(A, NOW + 125);
+        // 1070 = 17분 50초 → 1020(17분 0초)에 초 칸 50으로 내려감
+        wheel.schedule(B, NOW + 70);
+
+        assertThat(wheel.advance(1_069)).isEmpty();
+        assertThat(wheel.advance(1_070)).containsExactly(B);
+        assertThat(wheel.advance(1_124)).isEmpty();
+        assertThat(wheel.advance(1_125)).containsExactly(A);
+    }
+
+    @Test
+    @DisplayName("한 번에 여러 초를 진행해도 그 사이 예약이 모두 나온다")
+    void advanceManySecondsAtOnce() {
+        ReminderWheel wheel = new ReminderWheel(NOW);
+        wheel.schedule(A, NOW + 5);
+        wheel.schedule(B, NOW + 1_500);
+
+        assertThat(wheel.advance(NOW + 2_000)).containsExactly(A, B);
+    }
+
+    @Test
+    @DisplayName("59분 뒤 분 칸까지만 받고 60분 칸부터는 거절한다")
+    void rejectsBeyondOneHour() {
+        ReminderWheel wheel = new ReminderWheel(NOW);
+        // 현재 16분 → 75분 칸은 허용, 76분 칸은 현재 칸과 겹치므로 거절
+        assertThat(wheel.schedule(A, 75 * 60 + 59)).isTrue();
+        assertThat(wheel.schedule(B, 76 * 60)).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+
+        assertThat(wheel.advance(75 * 60 + 58)).isEmpty();
+        assertThat(wheel.advance(75 * 60 + 59)).containsExactly(A);
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각은 다음 advance 에서 바로 나온다")
+    void overdueFiresImmediately() {
+        ReminderWheel wheel = new ReminderWheel(NOW);
+        wheel.schedule(A, NOW - 30);
+        wheel.schedule(B, NOW);
+
+        assertThat(wheel.advance(NOW)).containsExactlyInAnyOrder(A, B);
+    }
+
+    @Test
+    @DisplayName("다시 예약하면 이전 시각은 무시되고 같은 시각 중복 예약은 한 번만 나온다")
+    void rescheduleReplacesPreviousEntry() {
+        ReminderWheel wheel = new ReminderWheel(NOW);
+        wheel.schedule(A, NOW + 10);
+        wheel.schedule(A, NOW + 200);
+        wheel.schedule(B, NOW + 20);
+        wheel.schedule(B, NOW + 20);
+
+        assertThat(wheel.size()).isEqualTo(2);
+        assertThat(wheel.advance(NOW + 20)).containsExactly(B);
+        assertThat(wheel.advance(NOW + 199)).isEmpty();
+        assertThat(wheel.advance(NOW + 200)).containsExactly(A);
+    }
+
+    @Test
+    @DisplayName("더 이른 시각으로 당겨도 새 시각에 한 번만 나온다")
+    void rescheduleEarlier() {
+        ReminderWheel wheel = new ReminderWheel(NOW);
+        wheel.schedule(A, NOW + 300);
+        wheel.schedule(A, NOW + 5);
+
+        assertThat(wheel.advance(NOW + 5)).containsExactly(A);
+        assertThat(wheel.advance(NOW + 400)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("1시간 이상 멈췄다 진행하면 남은 예약을 모두 꺼내고 시계를 맞춘다")
+    void longStallDrainsEverything() {
+        ReminderWheel wheel = new ReminderWheel(NOW);
+        wheel.schedule(A, NOW + 30);
+        wheel.schedule(B, NOW + 1_800);
+
+        long later = NOW + 3_600;
+        assertThat(wheel.advance(later)).containsExactlyInAnyOrder(A, B);
+
+        // 시계가 맞춰졌으므로 이후 예약도 정상 동작
+        wheel.schedule(A, later + 3);
+        assertThat(wheel.advance(later + 2)).isEmpty();
+        assertThat(wheel.advance(later + 3)).containsExactly(A);
+    }
+}
@@ -0,0 +1,224 @@
+package cola.springboot.cocal.notification;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseHubTest {
+
+    private static final int QUEUE_SIZE = 4;
+
+    // 전송 작업을 모아뒀다가 runAll 때 실행 (큐가 쌓이는 상황을 만들기 위해)
+    private final ManualExecutor sender = new ManualExecutor();
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+    private final SseHub hub = new SseHub(60_000, 3_600, QUEUE_SIZE, sender) {
+        @Override
+        SseEmitter createEmitter(long timeoutMillis) {
+            RecordingEmitter emitter = new RecordingEmitter(timeoutMillis);
+            emitters.add(emitter);
+            return emitter;
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    private static NotificationResponse notification(long id) {
+        return NotificationResponse.builder().id(id).type("EVENT").title("t" + id).build();
+    }
+
+    @Test
+    @DisplayName("연결 큐가 가득 차면 새 이벤트는 버리고 버린 수를 센다")
+    void queueOverflowDropsNewFrames() {
+        hub.connect(1L, null);
+        for (long id = 1; id <= 5; id++) {
+            hub.send(1L, notification(id));
+        }
+
+        // connect 이벤트 + 알림 3개로 큐가 참
+        assertThat(hub.stats().queued()).isEqualTo(QUEUE_SIZE);
+        assertThat(hub.stats().dropped()).isEqualTo(2);
+
+        sender.runAll();
+
+        assertThat(emitters.get(0).events).containsExactly("connect", "n1", "n2", "n3");
+        assertThat(hub.stats().sent()).isEqualTo(4);
+        assertThat(hub.stats().queued()).isZero();
+    }
+
+    @Test
+    @DisplayName("비운 뒤에는 다시 받는다")
+    void drainedQueueAcceptsAgain() {
+        hub.connect(1L, null);
+        for (long id = 1; id <= 4; id++) {
+            hub.send(1L, notification(id));
+        }
+        sender.runAll();
+        hub.send(1L, notification(5));
+        sender.runAll();
+
+        assertThat(emitters.get(0).events).containsExactly("connect", "n1", "n2", "n3", "n5");
+        assertThat(hub.stats().dropped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사용자의 모든 연결에 보내고, 다른 사용자에게는 보내지 않는다")
+    void sendsToEveryConnectionOfUser() {
+        hub.connect(1L, null);
+        hub.connect(1L, null);
+        hub.connect(2L, null);
+
+        hub.send(1L, notification(7));
+        sender.runAll();
+
+        assertThat(emitters.get(0).events).containsExactly("connect", "n7");
+        assertThat(emitters.get(1).events).containsExactly("connect", "n7");
+        assertThat(emitters.get(2).events).containsExactly("connect");
+        assertThat(hub.stats().users()).isEqualTo(2);
+        assertThat(hub.stats().connections()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 연결만 정리한다")
+    void failedSendRemovesOnlyThatConnection() {
+        hub.connect(1L, null);
+        hub.connect(1L, null);
+        emitters.get(0).failing = true;
+
+        hub.send(1L, notification(1));
+        sender.runAll();
+
+        assertThat(hub.stats().failed()).isEqualTo(1);
+        assertThat(hub.stats().connections()).isEqualTo(1);
+        assertThat(emitters.get(1).events).containsExactly("connect", "n1");
+
+        emitters.get(1).failing = true;
+        hub.send(1L, notification(2));
+        sender.runAll();
+
+        assertThat(hub.hasConnections(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("replay 중 들어온 실시간 알림은 replay 뒤에 중복 없이 보낸다")
+    void liveFramesAreHeldUntilReplayFinishes() {
+        hub.connect(1L, () -> {
+            // replay 조회 중 새 알림 발생 (n2 는 replay 에도 포함됨)
+            hub.send(1L, notification(2));
+            hub.send(1L, notification(3));
+            assertThat(hub.stats().queued()).isEqualTo(1);
+            return new SseHub.Replay(List.of(notification(1), notification(2)), false);
+        });
+        sender.runAll();
+
+        assertThat(emitters.get(0).events).containsExactly("connect", "n1", "n2", "n3");
+    }
+
+    @Test
+    @DisplayName("replay 가 잘렸으면 resync 이벤트를 보낸다")
+    void truncatedReplaySendsResync() {
+        hub.connect(1L, () -> new SseHub.Replay(List.of(notification(1)), true));
+        hub.send(1L, notification(2));
+        sender.runAll();
+
+        assertThat(emitters.get(0).events).containsExactly("connect", "n1", "resync", "n2");
+    }
+
+    @Test
+    @DisplayName("replay 조회가 실패하면 resync 를 보내고 실시간 알림은 계속 받는다")
+    void failedReplayFallsBackToResync() {
+        hub.connect(1L, () -> {
+            hub.send(1L, notification(5));
+            throw new IllegalStateException("db down");
+        });
+        sender.runAll();
+
+        assertThat(emitters.get(0).events).containsExactly("connect", "resync", "n5");
+    }
+
+    @Test
+    @DisplayName("연결/전송 지표를 sse.* 로 노출한다")
+    void exposesMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        hub.bindTo(registry);
+
+        hub.connect(1L, null);
+        hub.connect(2L, null);
+        for (long id = 1; id <= 5; id++) {
+            hub.send(1L, notification(id));
+        }
+
+        assertThat(registry.get("sse.connections").gauge().value()).isEqualTo(2.0);
+        assertThat(registry.get("sse.queued").gauge().value()).isEqualTo(5.0);
+        assertThat(registry.get("sse.frames").tag("result", "dropped").functionCounter().count()).isEqualTo(2.0);
+
+        sender.runAll();
+
+        assertThat(registry.get("sse.frames").tag("result", "sent").functionCounter().count()).isEqualTo(5.0);
+        assertThat(registry.get("sse.queued").gauge().value()).isZero();
+    }
+
+    private static final class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+
+    // 보낸 이벤트를 "connect", "n<id>", "resync", "ping" 으로 기록
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<String> events = new ArrayList<>();
+        private boolean failing;
+
+        RecordingEmitter(long timeoutMillis) {
+            super(timeoutMillis);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("broken pipe");
+            }
+            StringBuilder text = new StringBuilder();
+            String label = null;
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof NotificationResponse response) {
+                    label = "n" + response.getId();
+                } else {
+                    text.append(part.getData());
+                }
+            }
+            if (label == null) {
+                String raw = text.toString();
+                label = raw.contains("event:connect") ? "connect"
+                        : raw.contains("event:resync") ? "resync"
+                        : raw.contains(":ping") ? "ping"
+                        : raw;
+            }
+            events.add(label);
+        }
+    }
+}
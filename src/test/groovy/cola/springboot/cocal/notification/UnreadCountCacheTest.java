@@ -0,0 +1,78 @@
+package cola.springboot.cocal.notification;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UnreadCountCacheTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+
+    @Test
+    @DisplayName("TTL 안에서는 COUNT 를 다시 하지 않고, 지나면 다시 센다")
+    void countsAgainAfterTtl() {
+        UnreadCountCache cache = new UnreadCountCache(10, 60, clock::get);
+
+        assertThat(cache.get(1L, () -> 3)).isEqualTo(3);
+        assertThat(cache.get(1L, () -> 99)).isEqualTo(3);
+
+        clock.addAndGet(60_000);
+        assertThat(cache.get(1L, () -> 5)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("증감은 캐시에 있는 사용자만 반영하고 0 아래로 내려가지 않는다")
+    void addAppliesOnlyToCachedUsers() {
+        UnreadCountCache cache = new UnreadCountCache(10, 60, clock::get);
+        cache.get(1L, () -> 2);
+
+        cache.add(1L, 1);
+        cache.add(2L, 1);
+        assertThat(cache.get(1L, () -> 99)).isEqualTo(3);
+        assertThat(cache.get(2L, () -> 7)).isEqualTo(7);
+
+        cache.add(1L, -10);
+        assertThat(cache.get(1L, () -> 99)).isZero();
+    }
+
+    @Test
+    @DisplayName("증감해도 TTL 은 처음 센 시각 기준으로 만료된다")
+    void addKeepsOriginalTtl() {
+        UnreadCountCache cache = new UnreadCountCache(10, 60, clock::get);
+        cache.get(1L, () -> 2);
+
+        clock.addAndGet(59_000);
+        cache.add(1L, 1);
+        clock.addAndGet(1_000);
+        assertThat(cache.get(1L, () -> 10)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("reset 은 0 으로, evict 는 다음 조회 때 다시 세도록")
+    void resetAndEvict() {
+        UnreadCountCache cache = new UnreadCountCache(10, 60, clock::get);
+        cache.get(1L, () -> 4);
+
+        cache.reset(1L);
+        assertThat(cache.get(1L, () -> 99)).isZero();
+
+        cache.evict(1L);
+        assertThat(cache.get(1L, () -> 6)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 사용자부터 제거한다")
+    void evictsLeastRecentlyUsed() {
+        UnreadCountCache cache = new UnreadCountCache(2, 60, clock::get);
+        cache.get(1L, () -> 1);
+        cache.get(2L, () -> 2);
+        cache.get(1L, () -> 99);
+        cache.get(3L, () -> 3);
+
+        assertThat(cache.get(2L, () -> 20)).isEqualTo(20);
+        assertThat(cache.stats().evictions()).isEqualTo(2);
+    }
+}
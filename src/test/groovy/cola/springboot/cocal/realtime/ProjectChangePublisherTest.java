@@ -0,0 +1,89 @@
+package cola.springboot.cocal.realtime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpSession;
+import org.springframework.messaging.simp.user.SimpSubscription;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProjectChangePublisherTest {
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final SimpUserRegistry userRegistry = mock(SimpUserRegistry.class);
+    private final MessageChannel brokerChannel = mock(MessageChannel.class);
+    private final ProjectChangePublisher publisher = new ProjectChangePublisher(messagingTemplate, userRegistry);
+
+    @BeforeEach
+    void setUp() {
+        when(messagingTemplate.getMessageChannel()).thenReturn(brokerChannel);
+    }
+
+    private static SimpSubscription subscription(String id, String destination) {
+        SimpSubscription subscription = mock(SimpSubscription.class);
+        when(subscription.getId()).thenReturn(id);
+        when(subscription.getDestination()).thenReturn(destination);
+        return subscription;
+    }
+
+    private static SimpSession session(String id, SimpSubscription... subscriptions) {
+        SimpSession session = mock(SimpSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.getSubscriptions()).thenReturn(Set.of(subscriptions));
+        return session;
+    }
+
+    private void register(long userId, SimpSession... sessions) {
+        SimpUser user = mock(SimpUser.class);
+        when(user.getSessions()).thenReturn(Set.of(sessions));
+        when(userRegistry.getUser(String.valueOf(userId))).thenReturn(user);
+    }
+
+    @Test
+    @DisplayName("추방/탈퇴한 사용자의 해당 프로젝트 구독만 모든 세션에서 해제한다")
+    void unsubscribesOnlyThatProjectTopic() {
+        register(7L,
+                session("s1", subscription("sub-1", "/topic/projects/1"), subscription("sub-2", "/topic/projects/2")),
+                session("s2", subscription("sub-3", "/topic/projects/1")));
+
+        publisher.unsubscribeAfterCommit(1L, 7L);
+
+        ArgumentCaptor<Message<?>> sent = ArgumentCaptor.forClass(Message.class);
+        verify(brokerChannel, times(2)).send(sent.capture());
+        List<String> unsubscribed = sent.getAllValues().stream()
+                .map(message -> {
+                    assertThat(SimpMessageHeaderAccessor.getMessageType(message.getHeaders()))
+                            .isEqualTo(SimpMessageType.UNSUBSCRIBE);
+                    return SimpMessageHeaderAccessor.getSessionId(message.getHeaders()) + "/"
+                            + SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders());
+                })
+                .toList();
+        assertThat(unsubscribed).containsExactlyInAnyOrder("s1/sub-1", "s2/sub-3");
+    }
+
+    @Test
+    @DisplayName("이 서버에 연결되지 않은 사용자면 아무것도 보내지 않는다")
+    void userWithoutSessionsIsIgnored() {
+        publisher.unsubscribeAfterCommit(1L, 7L);
+
+        verify(brokerChannel, never()).send(any());
+    }
+}
@@ -0,0 +1,24 @@
+package cola.springboot.cocal.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * PostgreSQL 통합 테스트 공통 설정
+ * - 컨테이너는 JVM 당 한 번만 띄우고 모든 테스트 클래스가 공유 (Spring 컨텍스트 캐시와 수명을 맞춤)
+ * - Flyway 마이그레이션이 그대로 적용되므로 네이티브 쿼리/인덱스/ON CONFLICT 동작까지 검증됨
+ * - 테스트끼리 데이터가 섞이지 않도록 각 테스트는 자기가 만든 ID 로만 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public abstract class IntegrationTestSupport {
+
+    @ServiceConnection
+    protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static {
+        POSTGRES.start();
+    }
+}
@@ -0,0 +1,107 @@
+package cola.springboot.cocal.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 통합 테스트용 데이터 생성 (JdbcTemplate 로 직접 INSERT)
+ * - updated_at / deleted_at 같은 시각 컬럼을 테스트가 원하는 값으로 넣기 위해 엔티티 대신 SQL 사용
+ * - 생성된 ID 를 돌려주므로 테스트는 자기 데이터만 검증
+ */
+public class TestFixtures {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TestFixtures(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public long createUser() {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO users (created_at, updated_at, default_view, role, user_status, provider, name, email)
+                VALUES (now(), now(), 'MONTH', 'ROLE_USER', 'ACTIVE', 'LOCAL', 'tester', ?)
+                RETURNING id
+                """, Long.class, UUID.randomUUID() + "@test.local");
+    }
+
+    // 프로젝트 + 소유자 ACTIVE 멤버
+    public long createProject(long ownerId) {
+        Long projectId = jdbcTemplate.queryForObject("""
+                INSERT INTO projects (start_date, end_date, created_at, updated_at, owner_id, name, status)
+                VALUES (CURRENT_DATE, CURRENT_DATE + 30, now(), now(), ?, 'test', 'IN_PROGRESS')
+                RETURNING id
+                """, Long.class, ownerId);
+        jdbcTemplate.update("""
+                INSERT INTO project_members (project_id, user_id, role, status)
+                VALUES (?, ?, 'OWNER', 'ACTIVE')
+                """, projectId, ownerId);
+        return projectId;
+    }
+
+    public void addMember(long projectId, long userId) {
+        jdbcTemplate.update("""
+                INSERT INTO project_members (project_id, user_id, role, status)
+                VALUES (?, ?, 'MEMBER', 'ACTIVE')
+                """, projectId, userId);
+    }
+
+    public long createEvent(long projectId, long authorId, LocalDateTime startAt, LocalDateTime updatedAt) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO events (project_id, title, start_at, end_at, author_id, created_at, updated_at, remind_at)
+                VALUES (?, 'event', ?, ?, ?, ?, ?, ?)
+                RETURNING id
+                """, Long.class, projectId, startAt, startAt.plusHours(1), authorId, updatedAt, updatedAt, startAt);
+    }
+
+    // 시작/종료 시각을 직접 지정 (구간 경계 테스트용)
+    public long createEvent(long projectId, long authorId, LocalDateTime startAt, LocalDateTime endAt,
+                            LocalDateTime updatedAt) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO events (project_id, title, start_at, end_at, author_id, created_at, updated_at, remind_at)
+                VALUES (?, 'event', ?, ?, ?, ?, ?, ?)
+                RETURNING id
+                """, Long.class, projectId, startAt, endAt, authorId, updatedAt, updatedAt, startAt);
+    }
+
+    public void addEventMember(long eventId, long userId) {
+        jdbcTemplate.update("INSERT INTO event_members (event_id, user_id) VALUES (?, ?)", eventId, userId);
+    }
+
+    public void addEventLink(long eventId, String url) {
+        jdbcTemplate.update("INSERT INTO event_links (event_id, url) VALUES (?, ?)", eventId, url);
+    }
+
+    public long createMemo(long projectId, long authorId, LocalDate memoDate, LocalDateTime updatedAt) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO memos (project_id, memo_date, content, author_id, created_at, updated_at)
+                VALUES (?, ?, 'memo', ?, ?, ?)
+                RETURNING id
+                """, Long.class, projectId, memoDate, authorId, updatedAt, updatedAt);
+    }
+
+    public long createPrivateTodo(long projectId, long ownerId, LocalDateTime date, LocalDateTime updatedAt) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO private_todos (project_id, owner_id, title, date, created_at, updated_at, remind_at)
+                VALUES (?, ?, 'todo', ?, ?, ?, ?)
+                RETURNING id
+                """, Long.class, projectId, ownerId, date, updatedAt, updatedAt, date);
+    }
+
+    public long createEventTodo(long eventId, long authorId, LocalDateTime updatedAt) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO event_todos (event_id, title, author_id, created_at, updated_at)
+                VALUES (?, 'todo', ?, ?, ?)
+                RETURNING id
+                """, Long.class, eventId, authorId, updatedAt, updatedAt);
+    }
+
+    public void createTombstone(long projectId, String itemType, long itemId, Long ownerId, LocalDateTime deletedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO calendar_tombstones (project_id, item_type, item_id, owner_id, deleted_at)
+                VALUES (?, ?, ?, ?, ?)
+                """, projectId, itemType, itemId, ownerId, deletedAt);
+    }
+}
@@ -0,0 +1,167 @@
+package cola.springboot.cocal.todo;
+
+import cola.springboot.cocal.event.EventService;
+import cola.springboot.cocal.event.dto.EventCreateRequest;
+import cola.springboot.cocal.invite.InviteService;
+import cola.springboot.cocal.projectMember.ProjectMemberService;
+import cola.springboot.cocal.support.IntegrationTestSupport;
+import cola.springboot.cocal.support.TestFixtures;
+import cola.springboot.cocal.todo.dto.TodoRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// agenda_items 프로젝션: 이벤트 TODO 는 프로젝트 ACTIVE 멤버마다 1행, 개인 TODO 는 소유자 1행
+class AgendaProjectionTest extends IntegrationTestSupport {
+
+    private static final LocalDateTime START = LocalDateTime.of(2031, 6, 10, 9, 0);
+
+    @Autowired
+    TodoService todoService;
+    @Autowired
+    InviteService inviteService;
+    @Autowired
+    ProjectMemberService projectMemberService;
+    @Autowired
+    EventService eventService;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    TestFixtures fixtures;
+    long owner;
+    long member;
+    long projectId;
+    long eventId;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures(jdbcTemplate);
+        owner = fixtures.createUser();
+        member = fixtures.createUser();
+        projectId = fixtures.createProject(owner);
+        fixtures.addMember(projectId, member);
+        eventId = fixtures.createEvent(projectId, owner, START, LocalDateTime.now());
+    }
+
+    private long createEventTodo(long authorId) {
+        TodoRequest request = new TodoRequest();
+        request.setType("EVENT");
+        request.setEventId(eventId);
+        request.setTitle("event todo");
+        return todoService.createTodo(projectId, authorId, request).getId();
+    }
+
+    private List<Long> eventTodoUsers(long todoId) {
+        return jdbcTemplate.queryForList(
+                "SELECT user_id FROM agenda_items WHERE event_todo_id = ? ORDER BY user_id", Long.class, todoId);
+    }
+
+    private int agendaCount(long userId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM agenda_items WHERE project_id = ? AND user_id = ?", Integer.class, projectId, userId);
+    }
+
+    @Test
+    @DisplayName("이벤트 TODO 는 ACTIVE 멤버 모두에게 퍼지고, 나간 멤버에게는 가지 않는다")
+    void eventTodoFansOutToActiveMembers() {
+        long left = fixtures.createUser();
+        jdbcTemplate.update("""
+                INSERT INTO project_members (project_id, user_id, role, status) VALUES (?, ?, 'MEMBER', 'LEFT')
+                """, projectId, left);
+
+        long todoId = createEventTodo(member);
+
+        assertThat(eventTodoUsers(todoId)).containsExactlyInAnyOrder(owner, member);
+        assertThat(agendaCount(left)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT date FROM agenda_items WHERE event_todo_id = ? AND user_id = ?", LocalDateTime.class, todoId, owner))
+                .isEqualTo(START);
+    }
+
+    @Test
+    @DisplayName("초대를 수락한 새 멤버는 기존 이벤트 TODO 를 받고, 다른 사람의 개인 TODO 는 받지 않는다")
+    void newMemberGetsExistingEventTodos() {
+        long todoId = createEventTodo(owner);
+        fixtures.createPrivateTodo(projectId, owner, START, LocalDateTime.now());
+        long newcomer = fixtures.createUser();
+        String email = jdbcTemplate.queryForObject("SELECT email FROM users WHERE id = ?", String.class, newcomer);
+        Long inviteId = jdbcTemplate.queryForObject("""
+                INSERT INTO invites (project_id, email, invited_by, status, token, expires_at, type)
+                VALUES (?, ?, ?, 'PENDING', ?, now() + interval '7 days', 'EMAIL')
+                RETURNING id
+                """, Long.class, projectId, email, owner,
+                (UUID.randomUUID().toString() + UUID.randomUUID()).replace("-", ""));
+
+        inviteService.acceptInvite(inviteId, newcomer);
+
+        assertThat(eventTodoUsers(todoId)).contains(newcomer);
+        assertThat(agendaCount(newcomer)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("추방/탈퇴하면 그 멤버의 이벤트 TODO 행만 지워진다")
+    void kickAndLeaveRemoveMemberRows() {
+        long other = fixtures.createUser();
+        fixtures.addMember(projectId, other);
+        long todoId = createEventTodo(owner);
+        assertThat(eventTodoUsers(todoId)).containsExactlyInAnyOrder(owner, member, other);
+
+        projectMemberService.kick(owner, projectId, member);
+        assertThat(eventTodoUsers(todoId)).containsExactlyInAnyOrder(owner, other);
+
+        projectMemberService.leaveProject(other, projectId);
+        assertThat(eventTodoUsers(todoId)).containsExactly(owner);
+    }
+
+    @Test
+    @DisplayName("이벤트 시작 시각이 바뀌면 모든 멤버 행의 날짜가 바뀐다")
+    void eventTimeChangeUpdatesDate() {
+        long todoId = createEventTodo(owner);
+        LocalDateTime newStart = START.plusDays(3).withHour(14);
+
+        eventService.updateEvent(eventId, projectId, EventCreateRequest.builder()
+                .title("moved")
+                .startDate(newStart.toLocalDate().toString())
+                .startTime("14:00:00")
+                .endDate(newStart.toLocalDate().toString())
+                .endTime("15:00:00")
+                .visibility("PUBLIC")
+                .build(), owner);
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT date FROM agenda_items WHERE event_todo_id = ?", LocalDateTime.class, todoId))
+                .hasSize(2)
+                .containsOnly(newStart);
+    }
+
+    @Test
+    @DisplayName("원본 TODO/프로젝트를 지우면 FK cascade 로 프로젝션 행도 지워진다")
+    void rowsCascadeOnDelete() {
+        long eventTodoId = createEventTodo(owner);
+        long otherTodoId = createEventTodo(member);
+        long privateTodoId = fixtures.createPrivateTodo(projectId, owner, START, LocalDateTime.now());
+        jdbcTemplate.update("""
+                INSERT INTO agenda_items (user_id, project_id, item_type, private_todo_id, title, status)
+                VALUES (?, ?, 'PRIVATE', ?, 'todo', 'IN_PROGRESS')
+                """, owner, projectId, privateTodoId);
+
+        jdbcTemplate.update("DELETE FROM event_todos WHERE id = ?", eventTodoId);
+        jdbcTemplate.update("DELETE FROM private_todos WHERE id = ?", privateTodoId);
+        assertThat(eventTodoUsers(eventTodoId)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM agenda_items WHERE private_todo_id = ?", Integer.class, privateTodoId)).isZero();
+        assertThat(eventTodoUsers(otherTodoId)).hasSize(2);
+
+        jdbcTemplate.update("DELETE FROM projects WHERE id = ?", projectId);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM agenda_items WHERE project_id = ?", Integer.class, projectId)).isZero();
+    }
+}